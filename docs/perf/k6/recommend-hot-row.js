@@ -0,0 +1,50 @@
+// 바이럴 요청 시나리오: 같은 slug의 같은 장소에 서로 다른 게스트가 동시에 추천
+// 원자적 UPDATE(기본)와 합치기 모드(app.recommendations.coalesce.enabled=true)를 각각 기동해 한 번씩 실행한다.
+// 실행: BASE_URL=http://localhost:8080 TEST_SLUG=<slug> EXTERNAL_ID=<역 반경 안 external_id> MODE=atomic k6 run docs/perf/k6/recommend-hot-row.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Counter } from 'k6/metrics';
+import { uuidv4 } from 'https://jslib.k6.io/k6-utils/1.4.0/index.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SLUG = __ENV.TEST_SLUG;
+const EXTERNAL_ID = __ENV.EXTERNAL_ID;
+const MODE = __ENV.MODE || 'atomic';
+
+const submitLatency = new Trend(`submit_${MODE}_ms`, true);
+const saved = new Counter(`submit_${MODE}_saved`);
+
+export const options = {
+  scenarios: {
+    hot: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RATE || 300), timeUnit: '1s', duration: __ENV.DURATION || '60s',
+      preAllocatedVUs: 100, maxVUs: 500,
+    },
+  },
+  thresholds: {
+    'http_req_failed': ['rate<0.01'],
+  },
+};
+
+export default function () {
+  const body = JSON.stringify({
+    items: [{
+      external_id: EXTERNAL_ID,
+      recommender_nickname: 'k6-load',
+      guest_id: uuidv4(),
+    }],
+  });
+  const res = http.post(`${BASE_URL}/api/requests/${SLUG}/recommendations`, body, {
+    headers: { 'Content-Type': 'application/json' },
+  });
+  check(res, { 'submit 2xx': (r) => r.status >= 200 && r.status < 300 });
+  submitLatency.add(res.timings.duration);
+  if (res.status >= 200 && res.status < 300) saved.add(1);
+}
+
+export function handleSummary(data) {
+  return {
+    [`docs/perf/k6/recommend-hot-row-${MODE}-summary.json`]: JSON.stringify(data, null, 2),
+  };
+}
@@ -0,0 +1,50 @@
+// 요청 상세: 애플리케이션 조립(기본) vs DB 렌더(?render=db) 비교
+// 실행: BASE_URL=http://localhost:8080 TEST_SLUG=<slug> k6 run docs/perf/k6/request-detail-render.js
+// DTO 캐시 효과를 빼고 비교하려면 app.requests.detail-cache.maximum-size=0 으로 기동한다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SLUG = __ENV.TEST_SLUG;
+const LIMIT = __ENV.LIMIT || '50';
+
+const appLatency = new Trend('detail_app_ms', true);
+const dbLatency = new Trend('detail_db_ms', true);
+
+export const options = {
+  scenarios: {
+    app: {
+      executor: 'constant-arrival-rate', exec: 'app',
+      rate: Number(__ENV.RATE || 200), timeUnit: '1s', duration: __ENV.DURATION || '60s',
+      preAllocatedVUs: 50, maxVUs: 200,
+    },
+    db: {
+      executor: 'constant-arrival-rate', exec: 'db',
+      rate: Number(__ENV.RATE || 200), timeUnit: '1s', duration: __ENV.DURATION || '60s',
+      preAllocatedVUs: 50, maxVUs: 200,
+      startTime: __ENV.DURATION || '60s', // 두 모드를 겹치지 않게 순차 실행
+    },
+  },
+  thresholds: {
+    'http_req_failed': ['rate<0.01'],
+  },
+};
+
+export function app() {
+  const res = http.get(`${BASE_URL}/api/requests/${SLUG}?limit=${LIMIT}`);
+  check(res, { 'app 200': (r) => r.status === 200 });
+  appLatency.add(res.timings.duration);
+}
+
+export function db() {
+  const res = http.get(`${BASE_URL}/api/requests/${SLUG}?limit=${LIMIT}&render=db`);
+  check(res, { 'db 200': (r) => r.status === 200 });
+  dbLatency.add(res.timings.duration);
+}
+
+export function handleSummary(data) {
+  return {
+    'docs/perf/k6/request-detail-render-summary.json': JSON.stringify(data, null, 2),
+  };
+}
@@ -6,6 +6,36 @@ BASE="${BASE:-http://localhost:8080}"
 STATION="${STATION:-S0701}"           # 숭실대입구
 OUT="${OUT:-src/main/resources/db/migration/R__mock_more_places.sql}"
 
+# ===== MODE=seed: 성능 환경용 합성 장소 CSV 생성 (백엔드/카카오 호출 없음) =====
+# 사용: MODE=seed COUNT=300000 SEED_OUT=/tmp/seed_places.csv scripts/mock/gen_mock_places.sh
+# 적재: --pin4u.mock.seed.enabled=true --app.mock.seed.csv-path=/tmp/seed_places.csv
+#       (MockSeedRunner가 COPY로 places/place_mock에 넣는다. mock 값은 서버의 MockDataGenerator로 생성)
+if [[ "${MODE:-}" == "seed" ]]; then
+  COUNT="${COUNT:-100000}"
+  SEED_OUT="${SEED_OUT:-build/seed_places.csv}"
+  CENTER_LAT="${CENTER_LAT:-37.4963}"   # 숭실대입구
+  CENTER_LNG="${CENTER_LNG:-126.9535}"
+  RADIUS_M="${RADIUS_M:-3000}"
+  mkdir -p "$(dirname "$SEED_OUT")"
+  awk -v n="$COUNT" -v clat="$CENTER_LAT" -v clng="$CENTER_LNG" -v r="$RADIUS_M" 'BEGIN {
+    srand(42)
+    split("FD6,FD6,FD6,CE7,CE7", gc, ",")
+    split("음식점,음식점,음식점,카페,카페", gn, ",")
+    split("음식점 > 한식|음식점 > 일식|음식점 > 양식|음식점 > 카페|음식점 > 카페 > 디저트카페", cn, "|")
+    pi = atan2(0, -1); m = 111195.0
+    print "external_id,place_name,category_group_code,category_group_name,category_name,x,y"
+    for (i = 0; i < n; i++) {
+      k = (i % 5) + 1
+      d = r * sqrt(rand()); t = rand() * 2 * pi
+      lat = clat + d * sin(t) / m
+      lng = clng + d * cos(t) / (m * cos(clat * pi / 180))
+      printf "kakao:seed%d,%s 시드 %d호점,%s,%s,%s,%.7f,%.7f\n", i, gn[k], i, gc[k], gn[k], cn[k], lng, lat
+    }
+  }' > "$SEED_OUT"
+  echo "Wrote $COUNT rows to $SEED_OUT"
+  exit 0
+fi
+
 # ===== 데이터: 장소명 + 이미지 배열 =====
 read -r -d '' DATA <<'JSON'
 [
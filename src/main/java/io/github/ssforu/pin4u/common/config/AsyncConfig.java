@@ -36,6 +36,40 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 자동추천(GET /api/recommendations/auto)의 요청 중 요약 생성 전용. 요청 스레드가 기한까지만 기다리므로
+     * 큐가 차면 거절(AbortPolicy)한다: CallerRunsPolicy처럼 OpenAI 호출을 서블릿 스레드에서 돌리면 기한이 깨진다.
+     * 거절된 장소는 summary_status=UNAVAILABLE.
+     */
+    @Bean(name = "autoSummaryExecutor")
+    public Executor autoSummaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("AI-Auto-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SSE 전송 전용(RequestEventHub). 구독자마다 보낼 게 있을 때만 드레인 작업 1개를 올린다.
+     * 느린 소켓 쓰기가 AI 작업 풀을 잡지 않도록 분리. 큐가 차면 거절(AbortPolicy)하고,
+     * RequestEventHub가 그 드레인을 버린 뒤 다음 offer에서 다시 올린다(발행·커밋 스레드가 소켓 쓰기를 떠안지 않게).
+     */
+    @Bean(name = "sseExecutor")
+    public Executor sseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("SSE-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (throwable, method, params) ->
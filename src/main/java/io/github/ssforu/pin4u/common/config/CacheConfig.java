@@ -1,7 +1,12 @@
 package io.github.ssforu.pin4u.common.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.github.ssforu.pin4u.features.places.application.PlaceSearchCacheLoader;
 import java.time.Duration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -12,8 +17,17 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class CacheConfig {
 
+    public static final String PLACE_SEARCH = "placeSearch";
+    public static final String KAKAO_DOCUMENTS = "kakaoDocuments";
+    public static final String PLACE_MOCKS = "placeMocks";
+    public static final String REQUEST_DETAIL = "requestDetail";
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(
+            @Qualifier("placeSearchCache") LoadingCache<Object, Object> placeSearchCache,
+            @Qualifier("kakaoDocumentCache") Cache<Object, Object> kakaoDocumentCache,
+            @Qualifier("placeMockCache") Cache<Object, Object> placeMockCache,
+            @Qualifier("requestDetailCache") Cache<Object, Object> requestDetailCache) {
         CaffeineCacheManager manager = new CaffeineCacheManager("stations");
         manager.setCaffeine(Caffeine.newBuilder()
                 // 전국 지하철역 약 700개. 검색어 조합을 감안해 1000 엔트리.
@@ -21,6 +35,76 @@ public class CacheConfig {
                 // 역 데이터는 거의 변경되지 않으므로 1시간 TTL로 충분.
                 .expireAfterWrite(Duration.ofHours(1))
                 .recordStats());
+        // 커스텀 캐시도 CacheManager에 등록해야 /actuator/prometheus 의 cache_* 지표로 노출된다.
+        manager.registerCustomCache(PLACE_SEARCH, placeSearchCache);
+        manager.registerCustomCache(KAKAO_DOCUMENTS, kakaoDocumentCache);
+        manager.registerCustomCache(PLACE_MOCKS, placeMockCache);
+        manager.registerCustomCache(REQUEST_DETAIL, requestDetailCache);
         return manager;
     }
+
+    /**
+     * 카카오 키워드 검색 결과 캐시. 키: (역 코드, 정규화 키워드, 반경, size)
+     * refreshAfterWrite 경과 엔트리는 stale 값을 바로 돌려주고 백그라운드에서 다시 불러온다.
+     */
+    @Bean
+    public LoadingCache<Object, Object> placeSearchCache(
+            PlaceSearchCacheLoader loader,
+            @Value("${app.search.cache.maximum-size:5000}") long maximumSize,
+            @Value("${app.search.cache.ttl:30m}") Duration ttl,
+            @Value("${app.search.cache.refresh-after:5m}") Duration refreshAfter) {
+        return Caffeine.newBuilder()
+                // 역 × 인기 키워드 조합. 문서 리스트(최대 50건) 기준 수 MB 수준.
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .build(loader);
+    }
+
+    /**
+     * write-free 검색 모드의 사이드 저장소. 키: external_id("kakao:{id}"), 값: 카카오 문서.
+     * 사용자가 검색 후 추천을 제출하기까지의 시간만 버티면 되므로 짧은 TTL.
+     */
+    @Bean
+    public Cache<Object, Object> kakaoDocumentCache(
+            @Value("${app.search.stash.maximum-size:50000}") long maximumSize,
+            @Value("${app.search.stash.ttl:30m}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 디코딩된 place_mock 캐시. 키: external_id, 값: PlaceMockCache.DecodedMock.
+     * mock은 생성 후 거의 바뀌지 않고 쓰기 시 무효화되므로 TTL은 안전망 용도.
+     */
+    @Bean
+    public Cache<Object, Object> placeMockCache(
+            @Value("${app.places.mock-cache.maximum-size:100000}") long maximumSize,
+            @Value("${app.places.mock-cache.ttl:6h}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 요청 상세 응답 캐시. 키: (slug, limit 버킷), 값: 조립된 RequestDetailResponse.
+     * 쓰기 시 RequestChangedEvent로 무효화되며, TTL은 이벤트 누락 대비 안전망.
+     * 히트율은 cache_gets_total{cache="requestDetail",result="hit|miss"} 로 확인.
+     */
+    @Bean
+    public Cache<Object, Object> requestDetailCache(
+            @Value("${app.requests.detail-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.requests.detail-cache.ttl:10m}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
 }
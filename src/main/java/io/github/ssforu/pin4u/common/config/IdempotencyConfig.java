@@ -0,0 +1,37 @@
+package io.github.ssforu.pin4u.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.ssforu.pin4u.common.idempotency.CaffeineIdempotencyStore;
+import io.github.ssforu.pin4u.common.idempotency.IdempotencyStore;
+import io.github.ssforu.pin4u.common.idempotency.JdbcIdempotencyStore;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Idempotency-Key 저장소 선택. app.idempotency.store: memory(기본, 인스턴스 1대) | jdbc(다중 인스턴스, V28 테이블)
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore caffeineIdempotencyStore(
+            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+            @Value("${app.idempotency.maximum-size:100000}") long maximumSize) {
+        return new CaffeineIdempotencyStore(Caffeine.newBuilder()
+                // 응답 본문(수 KB) × 키. 재시도 창만 버티면 되므로 크기 상한을 둔다.
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build());
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "app.idempotency.store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbc) {
+        return new JdbcIdempotencyStore(jdbc);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.ssforu.pin4u.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.ssforu.pin4u.common.datasource.ReadYourWrites;
+import io.github.ssforu.pin4u.common.datasource.ReadYourWritesFilter;
+import io.github.ssforu.pin4u.common.datasource.ReplicaLagProbe;
+import io.github.ssforu.pin4u.common.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 전용 트랜잭션 → 레플리카 라우팅(app.datasource.replica.enabled=true 일 때만).
+ * - primary: spring.datasource.* + spring.datasource.hikari.* (풀 이름 "primary"), Flyway 전용
+ * - replica: app.datasource.replica.url/username/password + app.datasource.replica.hikari.* (풀 이름 "replica")
+ * 두 풀 모두 HikariDataSource 빈이라 hikaricp_* 메트릭이 pool 태그로 따로 잡힌다.
+ * 비활성 시에는 부트 기본 DataSource 하나만 쓰며 동작 변화가 없다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(value = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password
+    ) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setJdbcUrl(url);
+        ds.setUsername(username);
+        ds.setPassword(password);
+        ds.setPoolName("replica");
+        ds.setReadOnly(true);
+        return ds;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Value("${app.datasource.replica.read-your-writes-window:3s}") Duration window
+    ) {
+        return new ReadYourWrites(window);
+    }
+
+    @Bean
+    public ReplicaLagProbe replicaLagProbe(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.replica.max-lag:1s}") Duration maxLag,
+            @Value("${app.datasource.replica.lag-stale-after:5s}") Duration staleAfter,
+            MeterRegistry registry
+    ) {
+        return new ReplicaLagProbe(replica, maxLag, staleAfter, registry);
+    }
+
+    /** JPA/JdbcTemplate이 쓰는 기본 DataSource. 지연 커넥션 프록시라 readOnly 플래그가 잡힌 뒤 라우팅된다. */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagProbe lagProbe,
+            ReadYourWrites readYourWrites,
+            MeterRegistry registry
+    ) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagProbe, readYourWrites, registry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> reg = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        reg.addUrlPatterns("/*");
+        return reg;
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.ssforu.pin4u.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화. 작업별 on/off는 각 컴포넌트의 app.* 프로퍼티로 제어한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
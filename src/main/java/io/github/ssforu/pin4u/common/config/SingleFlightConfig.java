@@ -0,0 +1,37 @@
+package io.github.ssforu.pin4u.common.config;
+
+import io.github.ssforu.pin4u.common.util.SingleFlight;
+import io.github.ssforu.pin4u.features.places.application.PlaceSearchKey;
+import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 업스트림 호출 합치기(single-flight) 인스턴스.
+ * 공유 링크가 퍼질 때 같은 검색/같은 장소 요약이 동시에 몰려도 업스트림에는 1회만 나간다.
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    /** 카카오 키워드 검색: 키 = (역, 정규화 키워드, 반경, size) */
+    @Bean
+    public SingleFlight<PlaceSearchKey, List<KakaoPayload.Document>> kakaoSearchFlight(MeterRegistry registry) {
+        return new SingleFlight<>("kakaoSearch", registry);
+    }
+
+    /** 장소 AI 요약: 키 = external_id + 입력 지문(AiSummaryService.inputKey) */
+    @Bean
+    public SingleFlight<String, Optional<String>> aiSummaryFlight(MeterRegistry registry) {
+        return new SingleFlight<>("aiSummary", registry);
+    }
+
+    /** Idempotency-Key: 키 = 엔드포인트:사용자:키:본문 지문. 같은 키·같은 본문의 동시 재시도는 첫 요청 응답을 공유 */
+    @Bean
+    public SingleFlight<String, ResponseEntity<?>> idempotencyFlight(MeterRegistry registry) {
+        return new SingleFlight<>("idempotency", registry);
+    }
+}
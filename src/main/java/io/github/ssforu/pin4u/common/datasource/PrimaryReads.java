@@ -0,0 +1,32 @@
+package io.github.ssforu.pin4u.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용이어도 primary에서 읽어야 하는 구간.
+ * 메모리 캐시를 채우는 조회와 ETag 버전 토큰·그 본문은 레플리카 지연분을 오래 붙잡거나(캐시 TTL 동안)
+ * 새 토큰에 옛 본문이 묶여 304로 고정될 수 있어 primary로 고정한다.
+ * 커넥션은 첫 문장에서 얻으므로(LazyConnectionDataSourceProxy) @Transactional(readOnly = true) 메서드 본문 안에서 감싸면 된다.
+ * 레플리카 라우팅이 꺼져 있으면 아무 효과가 없다.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<int[]> DEPTH = new ThreadLocal<>();
+
+    private PrimaryReads() {}
+
+    public static <T> T call(Supplier<T> body) {
+        int[] depth = DEPTH.get();
+        if (depth == null) DEPTH.set(depth = new int[1]);
+        depth[0]++;
+        try {
+            return body.get();
+        } finally {
+            if (--depth[0] == 0) DEPTH.remove();
+        }
+    }
+
+    public static boolean active() {
+        return DEPTH.get() != null;
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.ssforu.pin4u.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+
+/**
+ * 읽기-내-쓰기(read-your-writes) 창.
+ * 쓰기 트랜잭션을 커밋한 세션(gid 쿠키)은 window 동안 읽기 전용 트랜잭션도 primary로 보낸다.
+ * 세션 키는 요청 스레드에 바인딩되며(ReadYourWritesFilter), 비동기 스레드에는 바인딩되지 않는다.
+ * 상태는 인스턴스 로컬 메모리라 다중 인스턴스에서는 세션 고정(sticky) 라우팅을 전제로 한다.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<String> SESSION = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public static void bind(String sessionKey) {
+        if (sessionKey == null || sessionKey.isBlank()) SESSION.remove();
+        else SESSION.set(sessionKey);
+    }
+
+    public static void clear() {
+        SESSION.remove();
+    }
+
+    /** 현재 세션이 window 안에 쓰기를 커밋했는지 */
+    public boolean mustReadPrimary() {
+        String key = SESSION.get();
+        return key != null && recentWriters.getIfPresent(key) != null;
+    }
+
+    /** 쓰기 트랜잭션 커밋 직후 호출 */
+    public void recordWrite() {
+        String key = SESSION.get();
+        if (key != null) recentWriters.put(key, Boolean.TRUE);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.ssforu.pin4u.common.datasource;
+
+import io.github.ssforu.pin4u.common.config.GidCookieFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+/** 요청 스레드에 세션 키(gid 쿠키)를 바인딩해 ReadYourWrites가 세션별로 판단하게 한다. */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Cookie gid = WebUtils.getCookie(request, GidCookieFilter.GID);
+        ReadYourWrites.bind(gid == null ? null : gid.getValue());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+}
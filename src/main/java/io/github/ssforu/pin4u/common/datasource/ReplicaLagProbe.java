@@ -0,0 +1,64 @@
+package io.github.ssforu.pin4u.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 레플리카 복제 지연 감시.
+ * - 수신 LSN == 재생 LSN 이면 지연 0(프라이머리 유휴 시 replay_timestamp가 늙어 보이는 문제 회피)
+ * - 그 외에는 now() - pg_last_xact_replay_timestamp()
+ * 지연이 maxLag를 넘거나, 조회가 실패했거나, 마지막 측정이 staleAfter보다 오래되면 unhealthy → 라우터가 primary로 보낸다.
+ */
+@Slf4j
+public class ReplicaLagProbe {
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final JdbcTemplate replicaJdbc;
+    private final long maxLagMs;
+    private final long staleAfterMs;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile long checkedAtMs;
+
+    public ReplicaLagProbe(DataSource replica, Duration maxLag, Duration staleAfter, MeterRegistry registry) {
+        this.replicaJdbc = new JdbcTemplate(replica);
+        this.replicaJdbc.setQueryTimeout(1);
+        this.maxLagMs = maxLag.toMillis();
+        this.staleAfterMs = staleAfter.toMillis();
+        Gauge.builder("db_replica_lag_seconds", this, p -> p.lagSeconds)
+                .description("replica replication lag (NaN when probe failed)")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:1s}")
+    public void probe() {
+        try {
+            Double lag = replicaJdbc.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = (lag == null) ? 0.0 : lag;
+            checkedAtMs = System.currentTimeMillis();
+        } catch (DataAccessException e) {
+            lagSeconds = Double.NaN;
+            log.warn("[replica] lag probe failed: {}", e.getMessage());
+        }
+    }
+
+    public boolean healthy() {
+        double lag = lagSeconds;
+        if (Double.isNaN(lag)) return false;
+        if (System.currentTimeMillis() - checkedAtMs > staleAfterMs) return false;
+        return lag * 1000.0 <= maxLagMs;
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.ssforu.pin4u.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @Transactional(readOnly = true) 트랜잭션만 레플리카로 보내는 라우팅 DataSource.
+ * LazyConnectionDataSourceProxy로 감싸 실제 커넥션을 첫 문장 시점(읽기 전용 플래그가 잡힌 뒤)에 얻어야 한다.
+ * 쓰기, 트랜잭션 밖 호출, PrimaryReads 구간, 읽기-내-쓰기 창, 레플리카 지연/장애 시에는 primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagProbe lagProbe;
+    private final ReadYourWrites readYourWrites;
+
+    private final Counter toReplica;
+    private final Counter writes;
+    private final Counter nonTransactional;
+    private final Counter pinned;
+    private final Counter readYourWritesFallbacks;
+    private final Counter lagFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagProbe lagProbe, ReadYourWrites readYourWrites,
+                                    MeterRegistry registry) {
+        this.lagProbe = lagProbe;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.toReplica = routed(registry, "replica", "read_only");
+        this.writes = routed(registry, "primary", "write");
+        this.nonTransactional = routed(registry, "primary", "no_transaction");
+        this.pinned = routed(registry, "primary", "pinned");
+        this.readYourWritesFallbacks = routed(registry, "primary", "read_your_writes");
+        this.lagFallbacks = routed(registry, "primary", "replica_lag");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                // 트랜잭션 밖(auto-commit) 커넥션: 쓰기인지 알 수 없어 따로 센다
+                nonTransactional.increment();
+                return Target.PRIMARY;
+            }
+            registerWriteHook();
+            writes.increment();
+            return Target.PRIMARY;
+        }
+        if (PrimaryReads.active()) {
+            pinned.increment();
+            return Target.PRIMARY;
+        }
+        if (readYourWrites.mustReadPrimary()) {
+            readYourWritesFallbacks.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagProbe.healthy()) {
+            lagFallbacks.increment();
+            return Target.PRIMARY;
+        }
+        toReplica.increment();
+        return Target.REPLICA;
+    }
+
+    // 쓰기 트랜잭션이 실제로 커밋된 경우에만 세션의 읽기-내-쓰기 창을 연다
+    private void registerWriteHook() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite();
+            }
+        });
+    }
+
+    private static Counter routed(MeterRegistry registry, String target, String reason) {
+        return Counter.builder("db_routing_total")
+                .description("connections routed by ReplicaRoutingDataSource")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.ssforu.pin4u.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 로컬 저장소. 진행 중 예약은 맵에, 완료 응답은 캐시에 둔다.
+ * 같은 키·같은 본문의 동시 요청은 IdempotencyService의 single-flight가 합치고, 본문이 다른 요청은 예약을 보고 422를 받는다.
+ * TTL은 캐시 설정(expireAfterWrite)을 따른다.
+ */
+public class CaffeineIdempotencyStore implements IdempotencyStore {
+
+    private record Reservation(String owner, String fingerprint) {}
+
+    private final Cache<String, Stored> cache;
+    private final ConcurrentHashMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    public CaffeineIdempotencyStore(Cache<String, Stored> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<Stored> find(String key) {
+        Stored done = cache.getIfPresent(key);
+        if (done != null) return Optional.of(done);
+        Reservation r = reservations.get(key);
+        return (r == null) ? Optional.empty() : Optional.of(new Stored(r.fingerprint(), null, null, null));
+    }
+
+    @Override
+    public boolean reserve(String key, String owner, String fingerprint, Duration lease) {
+        if (cache.getIfPresent(key) != null) return false;
+        return reservations.putIfAbsent(key, new Reservation(owner, fingerprint)) == null;
+    }
+
+    @Override
+    public boolean complete(String key, String owner, Stored response, Duration ttl) {
+        boolean[] saved = {false};
+        // 응답을 캐시에 넣은 뒤 예약을 지운다(그 사이 reserve가 빈 자리를 보지 않게)
+        reservations.computeIfPresent(key, (k, r) -> {
+            if (!r.equals(new Reservation(owner, response.fingerprint()))) return r;
+            cache.put(key, response);
+            saved[0] = true;
+            return null;
+        });
+        return saved[0];
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        reservations.computeIfPresent(key, (k, r) -> r.owner().equals(owner) ? null : r);
+    }
+}
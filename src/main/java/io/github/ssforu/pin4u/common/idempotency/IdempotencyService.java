@@ -0,0 +1,187 @@
+package io.github.ssforu.pin4u.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ssforu.pin4u.common.response.ApiResponse;
+import io.github.ssforu.pin4u.common.util.SingleFlight;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 헤더 처리(POST 재시도 대비).
+ * - 같은 키로 완료된 요청이 있으면 쓰기 경로를 타지 않고 저장된 응답을 그대로 돌려준다(Idempotent-Replayed: true)
+ * - 같은 키·같은 본문의 동시 요청은 인스턴스 안에서는 single-flight(키 + 본문 지문)로, 인스턴스 간에는 저장소 예약 + 대기로
+ *   첫 요청 결과를 기다린다. 합류한 요청의 응답에도 Idempotent-Replayed: true
+ * - 같은 키에 본문이 다르면 422(처리 중이어도), 대기 시간 안에 첫 요청이 끝나지 않으면 409
+ * - 예약은 owner 토큰으로 잡고 완료/해제도 같은 owner일 때만 반영한다(lease가 지나 다른 인스턴스가 가져간 키를 덮어쓰지 않게)
+ * 2xx 응답만 저장한다(실패는 재시도하면 다시 실행).
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final SingleFlight<String, ResponseEntity<?>> flight;
+    private final ObjectMapper om;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration wait;
+
+    public IdempotencyService(
+            IdempotencyStore store,
+            SingleFlight<String, ResponseEntity<?>> idempotencyFlight,
+            ObjectMapper om,
+            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+            @Value("${app.idempotency.lease:30s}") Duration lease,
+            @Value("${app.idempotency.wait:10s}") Duration wait
+    ) {
+        this.store = store;
+        this.flight = idempotencyFlight;
+        this.om = om;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.wait = wait;
+    }
+
+    /**
+     * @param scope   엔드포인트 + 호출자 식별(다른 사용자/엔드포인트와 키가 겹치지 않게)
+     * @param key     헤더 값. null/blank면 그대로 실행
+     * @param request 본문 지문 계산 대상
+     */
+    public ResponseEntity<?> execute(String scope, String key, Object request, Supplier<ResponseEntity<?>> action) {
+        if (key == null || key.isBlank()) return action.get();
+        String k = key.trim();
+        if (k.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    "VALIDATION_ERROR", HEADER + " too long", Map.of("max_length", MAX_KEY_LENGTH)));
+        }
+        String storeKey = scope + ":" + k;
+        String fingerprint = fingerprint(request);
+        boolean[] executed = {false};
+        ResponseEntity<?> res = flight.execute(storeKey + ":" + fingerprint, () -> {
+            executed[0] = true;
+            return run(storeKey, fingerprint, action);
+        });
+        return executed[0] ? res : joined(res);
+    }
+
+    private ResponseEntity<?> run(String key, String fingerprint, Supplier<ResponseEntity<?>> action) {
+        long deadline = System.nanoTime() + wait.toNanos();
+        while (true) {
+            Optional<IdempotencyStore.Stored> hit = store.find(key);
+            if (hit.isPresent()) {
+                IdempotencyStore.Stored s = hit.get();
+                if (!s.fingerprint().equals(fingerprint)) return reused();
+                if (s.completed()) return replay(s);
+            } else {
+                String owner = UUID.randomUUID().toString();
+                if (store.reserve(key, owner, fingerprint, lease)) {
+                    return executeReserved(key, owner, fingerprint, action);
+                }
+            }
+            // 다른 인스턴스가 처리 중: 완료(또는 예약 해제)까지 짧게 폴링
+            if (System.nanoTime() > deadline) return inProgress();
+            sleep();
+        }
+    }
+
+    private ResponseEntity<?> executeReserved(String key, String owner, String fingerprint,
+                                              Supplier<ResponseEntity<?>> action) {
+        ResponseEntity<?> res;
+        try {
+            res = action.get();
+        } catch (RuntimeException | Error e) {
+            store.release(key, owner);
+            throw e;
+        }
+        if (!res.getStatusCode().is2xxSuccessful()) {
+            store.release(key, owner);
+            return res;
+        }
+        URI location = res.getHeaders().getLocation();
+        boolean saved = store.complete(key, owner, new IdempotencyStore.Stored(
+                fingerprint,
+                res.getStatusCode().value(),
+                location == null ? null : location.toString(),
+                toJson(res.getBody())), ttl);
+        if (!saved) {
+            // lease가 지나 다른 요청이 키를 가져갔다: 이 응답은 돌려주되 저장은 그쪽 결과를 따른다
+            log.warn("[idempotency] lost reservation before completing key={}", key);
+        }
+        return res;
+    }
+
+    // single-flight로 첫 요청 결과를 받은 동시 요청: 재생 응답과 같게 표시한다
+    private static ResponseEntity<?> joined(ResponseEntity<?> res) {
+        if (!res.getStatusCode().is2xxSuccessful()) return res;
+        return ResponseEntity.status(res.getStatusCode())
+                .headers(h -> {
+                    h.addAll(res.getHeaders());
+                    h.set(REPLAYED_HEADER, "true");
+                })
+                .body(res.getBody());
+    }
+
+    private ResponseEntity<?> replay(IdempotencyStore.Stored s) {
+        ResponseEntity.BodyBuilder b = ResponseEntity.status(s.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(REPLAYED_HEADER, "true");
+        if (s.location() != null) b.header(HttpHeaders.LOCATION, s.location());
+        return b.body(s.bodyJson() == null ? null : s.bodyJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ResponseEntity<?> reused() {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(ApiResponse.error(
+                "IDEMPOTENCY_KEY_REUSED", HEADER + " was used with a different request body", null));
+    }
+
+    private static ResponseEntity<?> inProgress() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(
+                "IDEMPOTENCY_IN_PROGRESS", "a request with the same " + HEADER + " is still in progress", null));
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(om.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("idempotency fingerprint failed", e);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return body == null ? null : om.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("idempotency response serialization failed", e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for idempotent request", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.ssforu.pin4u.common.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 저장소. 키 하나의 수명: reserve(진행 중) → complete(응답 저장) 또는 release(실패 시 삭제).
+ * complete/release는 reserve에 쓴 owner가 아직 예약을 쥐고 있을 때만 반영된다.
+ * 메모리(Caffeine, 단일 인스턴스)와 Postgres(다중 인스턴스) 구현이 있다.
+ */
+public interface IdempotencyStore {
+
+    /** 저장된 응답. status == null 이면 다른 요청이 처리 중 */
+    record Stored(String fingerprint, Integer status, String location, String bodyJson) {
+        public boolean completed() {
+            return status != null;
+        }
+    }
+
+    Optional<Stored> find(String key);
+
+    /** 처리권 획득. 이미 진행 중/완료된 키면 false */
+    boolean reserve(String key, String owner, String fingerprint, Duration lease);
+
+    /** 응답 저장. 예약을 잃었으면(lease 만료 후 다른 owner가 가져감) false */
+    boolean complete(String key, String owner, Stored response, Duration ttl);
+
+    /** 실패·비 2xx 응답이면 예약을 지워 재시도가 다시 실행되게 한다 */
+    void release(String key, String owner);
+}
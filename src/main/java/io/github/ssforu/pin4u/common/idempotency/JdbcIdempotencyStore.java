@@ -0,0 +1,78 @@
+package io.github.ssforu.pin4u.common.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Postgres 저장소(idempotency_keys, V28). 인스턴스가 여러 대여도 같은 키는 한 곳에서만 실행된다.
+ * 예약은 INSERT ... ON CONFLICT 한 문장이고, lease가 지난 예약(처리 중 프로세스 종료)은 다시 가져갈 수 있다.
+ * 완료/해제는 owner가 같은 진행 중 예약에만 반영되므로, 늦게 끝난 요청이 새 owner의 예약을 덮어쓰지 않는다.
+ * 호출자 트랜잭션 밖(autocommit)에서 쓰여 다른 인스턴스가 곧바로 본다.
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbc;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Optional<Stored> find(String key) {
+        List<Stored> rows = jdbc.query("""
+                SELECT fingerprint, status, location, body
+                FROM idempotency_keys
+                WHERE idem_key = ? AND expires_at > now()
+                """,
+                (rs, i) -> new Stored(
+                        rs.getString("fingerprint"),
+                        (Integer) rs.getObject("status"),
+                        rs.getString("location"),
+                        rs.getString("body")),
+                key);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public boolean reserve(String key, String owner, String fingerprint, Duration lease) {
+        int n = jdbc.update("""
+                INSERT INTO idempotency_keys (idem_key, owner, fingerprint, expires_at)
+                VALUES (?, ?, ?, now() + make_interval(secs => ?))
+                ON CONFLICT (idem_key) DO UPDATE
+                   SET owner = EXCLUDED.owner,
+                       fingerprint = EXCLUDED.fingerprint,
+                       status = NULL, location = NULL, body = NULL,
+                       expires_at = EXCLUDED.expires_at,
+                       created_at = now()
+                 WHERE idempotency_keys.expires_at <= now()
+                """, key, owner, fingerprint, lease.toSeconds());
+        return n == 1;
+    }
+
+    @Override
+    public boolean complete(String key, String owner, Stored response, Duration ttl) {
+        int n = jdbc.update("""
+                UPDATE idempotency_keys
+                SET status = ?, location = ?, body = ?, expires_at = now() + make_interval(secs => ?)
+                WHERE idem_key = ? AND owner = ? AND fingerprint = ? AND status IS NULL
+                """, response.status(), response.location(), response.bodyJson(), ttl.toSeconds(),
+                key, owner, response.fingerprint());
+        return n == 1;
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        jdbc.update("DELETE FROM idempotency_keys WHERE idem_key = ? AND owner = ? AND status IS NULL", key, owner);
+    }
+
+    @Scheduled(cron = "${app.idempotency.cleanup-cron:0 15 * * * *}", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        int n = jdbc.update("DELETE FROM idempotency_keys WHERE expires_at <= now()");
+        if (n > 0) log.info("[idempotency] purged {} expired keys", n);
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.ssforu.pin4u.common.util;
+
+/**
+ * 근거리(역 반경 수 km 이내) 거리 계산.
+ * 등장방형(equirectangular) 근사: 기준점 위도의 cos을 한 번만 구해 두고 점마다 곱셈·sqrt 1회.
+ * 2km 이내에서 하버사인 대비 오차는 1m 미만(서울 위도 기준)이라 표시/정렬/반경 필터에 충분하다.
+ */
+public final class GeoDistance {
+    private GeoDistance() {}
+
+    public static final double EARTH_RADIUS_M = 6_371_000.0;
+    /** 위도 1도의 길이(m) = R·π/180 */
+    public static final double METERS_PER_DEG = EARTH_RADIUS_M * Math.PI / 180.0;
+
+    /** 좌표가 없거나 NaN인 점에 대해 배치 API가 채우는 값 */
+    public static final int UNKNOWN = -1;
+
+    /** 기준점(역 등). cos(위도)를 미리 계산해 둔다. */
+    public static Origin origin(double lat, double lng) {
+        return new Origin(lat, lng);
+    }
+
+    /** 단건 거리(m, 반올림) */
+    public static int meters(double lat1, double lng1, double lat2, double lng2) {
+        return origin(lat1, lng1).metersTo(lat2, lng2);
+    }
+
+    /** 배치 거리: out[i] = (lat,lng) → (ys[i], xs[i]) 거리(m). 좌표가 NaN이면 UNKNOWN. */
+    public static void distances(double lat, double lng, double[] ys, double[] xs, int[] out) {
+        origin(lat, lng).distances(ys, xs, out);
+    }
+
+    /** 반경 판정(sqrt 없이 제곱 비교) */
+    public static boolean withinRadius(double lat, double lng, double lat2, double lng2, int radiusM) {
+        return origin(lat, lng).withinRadius(lat2, lng2, radiusM);
+    }
+
+    /** 문자열 좌표(카카오 x/y, places.x/y) 파싱. 실패 시 NaN */
+    public static double parse(String coord) {
+        if (coord == null || coord.isBlank()) return Double.NaN;
+        try {
+            return Double.parseDouble(coord.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    public static final class Origin {
+        private final double lat;
+        private final double lng;
+        private final double ky;   // 위도 1도당 m
+        private final double kx;   // 경도 1도당 m (기준 위도에서)
+
+        private Origin(double lat, double lng) {
+            this.lat = lat;
+            this.lng = lng;
+            this.ky = METERS_PER_DEG;
+            this.kx = METERS_PER_DEG * Math.cos(Math.toRadians(lat));
+        }
+
+        public double lat() {
+            return lat;
+        }
+
+        public double lng() {
+            return lng;
+        }
+
+        /** 경도 1도당 m (격자/바운딩 박스 계산용) */
+        public double metersPerDegLng() {
+            return kx;
+        }
+
+        public int metersTo(double lat2, double lng2) {
+            return (int) Math.round(Math.sqrt(squared(lat2, lng2)));
+        }
+
+        public boolean withinRadius(double lat2, double lng2, int radiusM) {
+            double r = radiusM;
+            return squared(lat2, lng2) <= r * r;
+        }
+
+        public void distances(double[] ys, double[] xs, int[] out) {
+            int n = Math.min(Math.min(ys.length, xs.length), out.length);
+            for (int i = 0; i < n; i++) {
+                double dy = (ys[i] - lat) * ky;
+                double dx = (xs[i] - lng) * kx;
+                double d2 = dx * dx + dy * dy;
+                out[i] = Double.isNaN(d2) ? UNKNOWN : (int) Math.round(Math.sqrt(d2));
+            }
+        }
+
+        private double squared(double lat2, double lng2) {
+            double dy = (lat2 - lat) * ky;
+            double dx = (lng2 - lng) * kx;
+            return dx * dx + dy * dy;
+        }
+    }
+}
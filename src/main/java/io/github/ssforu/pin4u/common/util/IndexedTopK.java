@@ -0,0 +1,123 @@
+package io.github.ssforu.pin4u.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 키 인덱스가 있는 상위 K 구조(최소 힙). 루트가 K개 중 가장 낮은 순위라
+ * 새 값은 루트와 한 번 비교해 들어올지 정하고, 이미 있는 키의 값 변경은 위치를 찾아 O(log K)로 다시 정렬한다.
+ * order: 앞설수록 작은 값(compare(a, b) < 0 이면 a가 상위). 스레드 안전하지 않음(호출자가 동기화).
+ */
+public final class IndexedTopK<K, V> {
+
+    private final int capacity;
+    private final Comparator<? super V> order;
+    private final Object[] keys;
+    private final Object[] values;
+    private final Map<K, Integer> index;
+    private int size;
+
+    public IndexedTopK(int capacity, Comparator<? super V> order) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0");
+        this.capacity = capacity;
+        this.order = order;
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.index = new HashMap<>(capacity * 2);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Optional<V> get(K key) {
+        Integer i = index.get(key);
+        return i == null ? Optional.empty() : Optional.of(value(i));
+    }
+
+    /**
+     * 값을 넣거나 바꾼다. 가득 찼고 루트보다 순위가 낮으면 버린다.
+     * @return 구조 안에 남았는지
+     */
+    public boolean offer(K key, V value) {
+        Integer i = index.get(key);
+        if (i != null) {
+            values[i] = value;
+            siftDown(siftUp(i));
+            return true;
+        }
+        if (size < capacity) {
+            keys[size] = key;
+            values[size] = value;
+            index.put(key, size);
+            siftUp(size++);
+            return true;
+        }
+        if (worse(value, value(0))) return false;
+        index.remove(key(0));
+        keys[0] = key;
+        values[0] = value;
+        index.put(key, 0);
+        siftDown(0);
+        return true;
+    }
+
+    /** 상위 순서대로 값 목록(K가 작으므로 복사 후 정렬) */
+    @SuppressWarnings("unchecked")
+    public List<V> sorted() {
+        V[] copy = (V[]) Arrays.copyOf(values, size);
+        Arrays.sort(copy, order);
+        return new ArrayList<>(Arrays.asList(copy));
+    }
+
+    // 루트 = 최하위: 부모가 자식보다 순위가 낮거나 같아야 한다
+    private int siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(value(i), value(parent))) break;
+            swap(i, parent);
+            i = parent;
+        }
+        return i;
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int l = 2 * i + 1, r = l + 1, worst = i;
+            if (l < size && worse(value(l), value(worst))) worst = l;
+            if (r < size && worse(value(r), value(worst))) worst = r;
+            if (worst == i) return;
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private boolean worse(V a, V b) {
+        return order.compare(a, b) > 0;
+    }
+
+    private void swap(int a, int b) {
+        Object k = keys[a], v = values[a];
+        keys[a] = keys[b];
+        values[a] = values[b];
+        keys[b] = k;
+        values[b] = v;
+        index.put(key(a), a);
+        index.put(key(b), b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int i) {
+        return (K) keys[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int i) {
+        return (V) values[i];
+    }
+}
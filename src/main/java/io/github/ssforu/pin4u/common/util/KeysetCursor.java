@@ -0,0 +1,57 @@
+package io.github.ssforu.pin4u.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 키셋 페이지네이션 커서.
+ * 클라이언트에는 base64url 불투명 문자열로만 노출한다. 시각은 Postgres 정밀도(µs)로 잘라 비교가 어긋나지 않게 한다.
+ */
+public record KeysetCursor(OffsetDateTime createdAt, long id) {
+
+    private static final String VERSION = "v1";
+    private static final Base64.Encoder ENC = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DEC = Base64.getUrlDecoder();
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public static KeysetCursor of(OffsetDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("cursor requires created_at and id");
+        }
+        return new KeysetCursor(createdAt.truncatedTo(ChronoUnit.MICROS), id);
+    }
+
+    public String encode() {
+        Instant t = createdAt.toInstant();
+        long micros = Math.addExact(Math.multiplyExact(t.getEpochSecond(), 1_000_000L), t.getNano() / 1_000);
+        return ENC.encodeToString((VERSION + ":" + micros + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/blank → null(첫 페이지). 형식이 틀리면 IllegalArgumentException(→ 400). */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(DEC.decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] t = raw.split(":");
+            if (t.length != 3 || !VERSION.equals(t[0])) throw new IllegalArgumentException("invalid cursor");
+            long micros = Long.parseLong(t[1]);
+            long id = Long.parseLong(t[2]);
+            Instant at = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+            return new KeysetCursor(OffsetDateTime.ofInstant(at, ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+    }
+
+    /** 페이지 크기 클램프: null/0 이하 → 기본값, 상한 MAX_SIZE */
+    public static int clampSize(Integer size) {
+        if (size == null || size <= 0) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.ssforu.pin4u.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나의 업스트림 호출로 합친다(single-flight).
+ * 첫 호출자가 실행하고, 진행 중에 들어온 호출자는 같은 future를 기다려 결과(또는 예외)를 공유한다.
+ * 완료 즉시 키를 제거하므로 결과를 캐시하지는 않는다(캐시는 Caffeine 쪽 책임).
+ *
+ * 지표: singleflight.calls{name, result=executed|coalesced}, singleflight.inflight{name}
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry registry) {
+        this.executed = Counter.builder("singleflight.calls")
+                .tag("name", name).tag("result", "executed")
+                .register(registry);
+        this.coalesced = Counter.builder("singleflight.calls")
+                .tag("name", name).tag("result", "coalesced")
+                .register(registry);
+        Gauge.builder("singleflight.inflight", inFlight, Map::size)
+                .tag("name", name)
+                .register(registry);
+    }
+
+    /** 동기 호출 합치기. 진행 중인 호출이 있으면 그 결과를 기다린다. */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        executed.increment();
+        try {
+            V v = call.get();
+            inFlight.remove(key, mine);
+            mine.complete(v);
+            return v;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 호출 합치기. 반환 future는 여러 호출자가 공유하므로 cancel 하지 말 것.
+     * (Reactor에서는 Mono.fromFuture(supplier, true)로 취소 전파를 막는다)
+     */
+    public CompletableFuture<V> submit(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        executed.increment();
+        CompletableFuture<V> upstream;
+        try {
+            upstream = call.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            return mine;
+        }
+        upstream.whenComplete((v, t) -> {
+            inFlight.remove(key, mine);
+            if (t != null) mine.completeExceptionally(t);
+            else mine.complete(v);
+        });
+        return mine;
+    }
+
+    private static <V> V await(CompletableFuture<V> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Groups")
 @RestController
@@ -34,8 +35,14 @@ public class GroupMapController {
     public ResponseEntity<ApiResponse<RequestDetailDtos.RequestDetailResponse>> map(
             @LoginUser(required = true) Long me,
             @PathVariable("group_slug") String groupSlug,
-            @RequestParam(value = "limit", required = false) Integer limit) {
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest webRequest) {
 
+        // 조건부 GET: 권한 검사 후 버전 토큰이 같으면 본문 없이 304
+        String token = service.versionToken(groupSlug, me);
+        if (token != null && webRequest.checkNotModified(token)) {
+            return null;
+        }
         var data = service.getGroupMapAsRequestDetail(groupSlug, me, limit);
         return ResponseEntity.ok(ApiResponse.success(data));
     }
@@ -1,16 +1,16 @@
 package io.github.ssforu.pin4u.features.groups.application;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ssforu.pin4u.common.datasource.PrimaryReads;
 import io.github.ssforu.pin4u.features.groups.domain.Group;
 import io.github.ssforu.pin4u.features.groups.domain.GroupMember;
 import io.github.ssforu.pin4u.features.groups.domain.GroupMemberId;
 import io.github.ssforu.pin4u.features.groups.infra.GroupMapQueryRepository;
 import io.github.ssforu.pin4u.features.groups.infra.GroupMemberRepository;
 import io.github.ssforu.pin4u.features.groups.infra.GroupRepository;
+import io.github.ssforu.pin4u.features.places.application.PlaceMockCache;
 import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos;
 import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
-import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -26,23 +26,30 @@ public class GroupMapService {
     private final GroupRepository groups;
     private final GroupMemberRepository members;
     private final RequestRepository requests;
-    private final StationRepository stations;
+    private final StationRegistry stations;
     private final GroupMapQueryRepository query;
-    private final ObjectMapper om;
+    private final PlaceMockCache mockCache;
 
+    /**
+     * 조건부 GET용 버전 토큰. 권한 검사는 본문 조회와 동일하게 먼저 수행해
+     * 304 경로로 비회원이 그룹 존재/변경 여부를 알 수 없게 한다.
+     */
+    @Transactional(readOnly = true)
+    public String versionToken(String groupSlug, Long me) {
+        return PrimaryReads.call(() -> {
+            Group g = authorizedGroup(groupSlug, me);
+            return query.findVersionTokenByGroupId(g.getId());
+        });
+    }
+
+    // 버전 토큰과 같은 primary에서 읽어 새 토큰에 레플리카의 옛 본문이 묶이지 않게 한다
     @Transactional(readOnly = true)
     public RequestDetailDtos.RequestDetailResponse getGroupMapAsRequestDetail(String groupSlug, Long me, Integer limit) {
-        Group g = groups.findBySlug(groupSlug)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "group not found"));
+        return PrimaryReads.call(() -> loadGroupMap(groupSlug, me, limit));
+    }
 
-        // 권한: 오너 or 승인 멤버만
-        if (!Objects.equals(g.getOwnerUserId(), me)) {
-            var gmId = new GroupMemberId(g.getId(), me);
-            var opt = members.findById(gmId);
-            if (opt.isEmpty() || opt.get().getStatus() != GroupMember.Status.APPROVED) {
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "forbidden");
-            }
-        }
+    private RequestDetailDtos.RequestDetailResponse loadGroupMap(String groupSlug, Long me, Integer limit) {
+        Group g = authorizedGroup(groupSlug, me);
 
         var groupReqs = requests.findAllByGroupId(g.getId());
         var groupBrief = new RequestDetailDtos.GroupBrief(g.getId(), g.getSlug(), g.getName(), g.getImageUrl());
@@ -60,23 +67,22 @@ public class GroupMapService {
 
         // 대표 요청(첫 요청 기준) – 이 요청의 slug를 응답에 실어 프론트가 노트 조회에 사용
         var first = groupReqs.get(0);
-        var st = stations.findByCode(first.getStationCode())
+        var st = stations.find(first.getStationCode())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "station not found for group"));
 
         int lim = (limit == null || limit <= 0 || limit > 100) ? 50 : limit;
 
-        var rows = query.findItemsByGroupId(g.getId(), st.getLat().doubleValue(), st.getLng().doubleValue(), lim);
+        var rows = query.findItemsByGroupId(g.getId(), st.latDeg(), st.lngDeg(), st.origin().metersPerDegLng(), lim);
 
         var items = rows.stream().map(r -> {
             RequestDetailDtos.Mock mock = null;
             if (r.getMock_rating() != null || r.getMock_rating_count() != null
                     || r.getMock_image_urls_json() != null || r.getMock_opening_hours_json() != null) {
+                var decoded = mockCache.fromColumns(r.getExternal_id(),
+                        r.getMock_rating(), r.getMock_rating_count(), r.getMock_review_snippets_json(),
+                        r.getMock_image_urls_json(), r.getMock_opening_hours_json());
                 mock = new RequestDetailDtos.Mock(
-                        r.getMock_rating(),
-                        r.getMock_rating_count(),
-                        parseJsonArray(r.getMock_image_urls_json()),
-                        parseJsonArray(r.getMock_opening_hours_json())
-                );
+                        decoded.rating(), decoded.ratingCount(), decoded.imageUrls(), decoded.openingHours());
             }
             return new RequestDetailDtos.Item(
                     r.getExternal_id(),
@@ -104,19 +110,25 @@ public class GroupMapService {
         // 응답 slug = 대표 request의 slug (노트/집계 라우팅과 Flyway V15 구조에 정확히 부합)
         return new RequestDetailDtos.RequestDetailResponse(
                 first.getSlug(),
-                new RequestDetailDtos.Station(st.getCode(), st.getName(), st.getLine(), st.getLat(), st.getLng()),
+                new RequestDetailDtos.Station(st.code(), st.name(), st.line(), st.lat(), st.lng()),
                 first.getRequestMessage(), // 시연: 첫 요청의 메모를 메모 박스에 노출
                 items,
                 groupBrief
         );
     }
 
-    private List<String> parseJsonArray(String json) {
-        if (json == null || json.isBlank()) return null;
-        try {
-            return om.readValue(json, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return null;
+    private Group authorizedGroup(String groupSlug, Long me) {
+        Group g = groups.findBySlug(groupSlug)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "group not found"));
+
+        // 권한: 오너 or 승인 멤버만
+        if (!Objects.equals(g.getOwnerUserId(), me)) {
+            var gmId = new GroupMemberId(g.getId(), me);
+            var opt = members.findById(gmId);
+            if (opt.isEmpty() || opt.get().getStatus() != GroupMember.Status.APPROVED) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "forbidden");
+            }
         }
+        return g;
     }
 }
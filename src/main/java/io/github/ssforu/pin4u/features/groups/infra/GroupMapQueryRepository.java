@@ -1,5 +1,6 @@
 package io.github.ssforu.pin4u.features.groups.infra;
 
+import io.github.ssforu.pin4u.common.util.GeoDistance;
 import io.github.ssforu.pin4u.features.places.domain.Place;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -48,12 +49,9 @@ public interface GroupMapQueryRepository extends Repository<Place, Long> {
             p.place_url                                             AS place_url,
             SUM(rpa.recommended_count)::INT                         AS recommended_count,
             ROUND(
-              6371000 * 2 * ASIN(
-                SQRT(
-                  POWER(SIN(RADIANS( ((p.y)::double precision - :centerLat) / 2 )), 2) +
-                  COS(RADIANS(:centerLat)) * COS(RADIANS((p.y)::double precision)) *
-                  POWER(SIN(RADIANS( ((p.x)::double precision - :centerLng) / 2 )), 2)
-                )
+              SQRT(
+                POWER(((p.y)::double precision - :centerLat) * 111194.93, 2) +
+                POWER(((p.x)::double precision - :centerLng) * :metersPerDegLng, 2)
               )
             )::INT                                                  AS distance_m,
             pm.rating                                               AS mock_rating,
@@ -81,6 +79,36 @@ public interface GroupMapQueryRepository extends Repository<Place, Long> {
             @Param("groupId") Long groupId,
             @Param("centerLat") double centerLat,
             @Param("centerLng") double centerLng,
+            @Param("metersPerDegLng") double metersPerDegLng,
             @Param("limit") int limit
     );
+
+    /** 조건부 GET(ETag)용 버전 토큰: 그룹 정보 + 소속 요청 + 집계/장소/mock 갱신 시각만 모아 md5 */
+    @Query(value = """
+        SELECT md5(concat_ws('|',
+                 g.slug, g.name, g.image_url,
+                 (SELECT string_agg(concat_ws(',', r.slug, r.station_code, md5(r.request_message)), ';' ORDER BY r.id)
+                    FROM requests r
+                   WHERE r.group_id = g.id),
+                 (SELECT concat_ws(',', COUNT(a.id), SUM(a.recommended_count), SUM(a.version), MAX(a.last_recommended_at))
+                    FROM request_place_aggregates a
+                    JOIN requests r ON r.slug = a.request_id
+                   WHERE r.group_id = g.id),
+                 (SELECT concat_ws(',', MAX(p.updated_at), MAX(pm.updated_at))
+                    FROM request_place_aggregates a
+                    JOIN requests r ON r.slug = a.request_id
+                    JOIN places p ON p.id = a.place_id
+                    LEFT JOIN place_mock pm ON pm.external_id = p.external_id
+                   WHERE r.group_id = g.id)
+               ))
+          FROM groups g
+         WHERE g.id = :groupId
+    """, nativeQuery = true)
+    String findVersionTokenByGroupId(@Param("groupId") Long groupId);
+
+    /** 거리는 등장방형 근사(GeoDistance와 같은 식). 기준 위도의 cos은 여기서 한 번만 계산해 넘긴다. */
+    default List<Row> findItemsByGroupId(Long groupId, double centerLat, double centerLng, int limit) {
+        return findItemsByGroupId(groupId, centerLat, centerLng,
+                GeoDistance.origin(centerLat, centerLng).metersPerDegLng(), limit);
+    }
 }
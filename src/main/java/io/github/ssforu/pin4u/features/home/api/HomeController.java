@@ -28,15 +28,18 @@ public class HomeController {
     )
     @GetMapping
     public ResponseEntity<ApiResponse<HomeDtos.DashboardResponse>> get(
-            @LoginUser(required = false) Long me) {
+            @LoginUser(required = false) Long me,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
 
         if (me == null) return ResponseEntity.noContent().build();
 
-        var data = homeService.dashboard(me);
+        var data = homeService.dashboard(me, cursor, size);
         var safe = new HomeDtos.DashboardResponse(
                 data.items()  != null ? data.items()  : List.of(),
                 data.groups() != null ? data.groups() : List.of(),
-                data.badges() != null ? data.badges() : Map.of("group_owner_pending", 0)
+                data.badges() != null ? data.badges() : Map.of("group_owner_pending", 0),
+                data.next_cursor()
         );
         return ResponseEntity.ok(ApiResponse.success(safe));
     }
@@ -1,14 +1,15 @@
 package io.github.ssforu.pin4u.features.home.application;
 
+import io.github.ssforu.pin4u.common.util.KeysetCursor;
 import io.github.ssforu.pin4u.features.groups.domain.Group;
 import io.github.ssforu.pin4u.features.groups.infra.GroupMemberRepository;
 import io.github.ssforu.pin4u.features.groups.infra.GroupRepository;
 import io.github.ssforu.pin4u.features.home.dto.HomeDtos;
 import io.github.ssforu.pin4u.features.requests.domain.Request;
-import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceAggregateRepository;
+import io.github.ssforu.pin4u.features.requests.domain.RequestTotal;
 import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
-import io.github.ssforu.pin4u.features.stations.domain.Station;
-import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
+import io.github.ssforu.pin4u.features.requests.infra.RequestTotalRepository;
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -20,45 +21,49 @@ import org.springframework.transaction.annotation.Transactional;
 public class HomeService {
 
     private final RequestRepository requests;
-    private final StationRepository stations;
-    private final RequestPlaceAggregateRepository rpaRepo;
+    private final StationRegistry stations;
+    private final RequestTotalRepository totalRepo;
     private final GroupMemberRepository gmRepo;
     private final GroupRepository groupRepo;
 
     @Transactional(readOnly = true)
     public HomeDtos.DashboardResponse dashboard(Long me) {
+        return dashboard(me, null, null);
+    }
 
-        // 1) 개인지도(items)
-        var rows = Optional.ofNullable(
-                requests.findAllByOwnerUserIdAndGroupIdIsNullOrderByCreatedAtDesc(me)
-        ).orElseGet(List::of);
+    @Transactional(readOnly = true)
+    public HomeDtos.DashboardResponse dashboard(Long me, String cursor, Integer size) {
 
-        // 역 정보: 코드별 1회 조회 후 캐시
-        Map<String, Station> stByCode = new HashMap<>();
-        for (Request r : rows) {
-            String code = r.getStationCode();
-            if (code != null && !code.isBlank()) {
-                stByCode.computeIfAbsent(code, c -> stations.findByCode(c).orElse(null));
-            }
+        // 1) 개인지도(items): 키셋 페이지, limit+1로 다음 페이지 여부 판단
+        int limit = KeysetCursor.clampSize(size);
+        var fetched = Optional.ofNullable(
+                requests.findPersonalPage(me, KeysetCursor.decode(cursor), limit + 1)
+        ).orElseGet(List::of);
+        boolean hasNext = fetched.size() > limit;
+        var rows = hasNext ? fetched.subList(0, limit) : fetched;
+        String nextCursor = null;
+        if (hasNext) {
+            Request last = rows.get(rows.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
         }
 
-        // 추천 수 집계: 배치 1회 호출로 O(N) → O(1)
+        // 추천 수: request_totals에서 요청당 1행(집계 GROUP BY 없음)
         List<String> slugs = rows.stream().map(Request::getSlug).toList();
         Map<String, Long> sumMap = slugs.isEmpty() ? Map.of()
-                : rpaRepo.sumByRequestIds(slugs).stream()
+                : totalRepo.findAllByRequestIdIn(slugs).stream()
                         .collect(Collectors.toMap(
-                                RequestPlaceAggregateRepository.SumRow::getRequestId,
-                                RequestPlaceAggregateRepository.SumRow::getTotal));
+                                RequestTotal::getRequestId,
+                                RequestTotal::getTotalRecommendations));
 
         List<HomeDtos.Item> items = new ArrayList<>(rows.size());
         for (Request r : rows) {
-            Station st = stByCode.get(r.getStationCode());
+            StationRegistry.Entry st = stations.find(r.getStationCode()).orElse(null);
             int total = Optional.ofNullable(sumMap.get(r.getSlug())).orElse(0L).intValue();
 
             items.add(new HomeDtos.Item(
                     r.getSlug(),
-                    st != null ? st.getName() : null,
-                    st != null ? st.getLine() : null,
+                    st != null ? st.name() : null,
+                    st != null ? st.line() : null,
                     null,
                     total,
                     r.getCreatedAt(),
@@ -92,6 +97,6 @@ public class HomeService {
         // 3) 배지
         Map<String, Integer> badges = Map.of("group_owner_pending", 0);
 
-        return new HomeDtos.DashboardResponse(items, groups, badges);
+        return new HomeDtos.DashboardResponse(items, groups, badges, nextCursor);
     }
 }
@@ -15,7 +15,9 @@ public final class HomeDtos {
             @JsonInclude(Include.ALWAYS)
             List<Map<String, Object>> groups,
             @JsonInclude(Include.ALWAYS)
-            Map<String, Integer> badges
+            Map<String, Integer> badges,
+            @JsonInclude(Include.ALWAYS)
+            String next_cursor // items 다음 페이지 커서(null이면 마지막)
     ) {}
 
     public record Item(
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "Places")
 @RestController
@@ -27,4 +28,15 @@ public class PlaceController {
         var data = service.search(station, q, limit);
         return ApiResponse.success(data);
     }
+
+    @Operation(summary = "장소 검색(논블로킹)",
+            description = "search와 동일한 응답. 카카오 호출 동안 서블릿 스레드를 반납하고 비동기로 응답합니다.")
+    @GetMapping(value = "/search/async", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ApiResponse<PlaceDtos.SearchResponse>> searchAsync(
+            @RequestParam("station") String station,
+            @RequestParam("q") String q,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return service.searchReactive(station, q, limit).map(ApiResponse::success);
+    }
 }
@@ -2,58 +2,109 @@ package io.github.ssforu.pin4u.features.places.application;
 
 import io.github.ssforu.pin4u.features.places.domain.PlaceMock;
 import io.github.ssforu.pin4u.features.places.infra.PlaceMockRepository;
-import java.time.OffsetDateTime;
+import io.github.ssforu.pin4u.features.requests.event.RequestChangedEvent;
 import java.util.*;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MockAllocator {
 
+    // 6 파라미터 × 500행 = 3000 (바인드 상한 32767 대비 여유)
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String VALUES_ROW =
+            "(?, CAST(? AS NUMERIC), CAST(? AS INT), CAST(? AS TEXT), CAST(? AS TEXT), CAST(? AS TEXT))";
+
+    // places에 없는 id는 JOIN으로 걸러 FK 위반으로 배치 전체가 실패하지 않게 한다.
+    // 동시 호출이 같은 id를 넣어도 ON CONFLICT DO NOTHING 으로 한쪽만 삽입된다.
+    private static final String INSERT_HEAD = """
+            INSERT INTO place_mock (external_id, rating, rating_count, review_snippets, image_urls, opening_hours, updated_at)
+            SELECT v.external_id, v.rating, v.rating_count, v.review_snippets, v.image_urls, v.opening_hours, now()
+            FROM (VALUES
+            """;
+
+    private static final String INSERT_TAIL = """
+            ) AS v(external_id, rating, rating_count, review_snippets, image_urls, opening_hours)
+            JOIN places p ON p.external_id = v.external_id
+            ON CONFLICT (external_id) DO NOTHING
+            RETURNING external_id
+            """;
+
+    // 새 mock이 붙은 장소를 담은 요청들(상세 캐시 무효화 대상)
+    private static final String AFFECTED_SLUGS = """
+            SELECT DISTINCT rpa.request_id
+            FROM request_place_aggregates rpa
+            JOIN places p ON p.id = rpa.place_id
+            WHERE p.external_id = ANY (?)
+            """;
+
     private final PlaceMockRepository mocks;
     private final MockDataGenerator gen;
+    private final PlaceMockCache mockCache;
+    private final JdbcTemplate jdbc;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MockAllocator(PlaceMockRepository mocks, MockDataGenerator gen) {
+    public MockAllocator(PlaceMockRepository mocks, MockDataGenerator gen, PlaceMockCache mockCache, JdbcTemplate jdbc,
+                         ApplicationEventPublisher eventPublisher) {
         this.mocks = mocks;
         this.gen = gen;
+        this.mockCache = mockCache;
+        this.jdbc = jdbc;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * 주어진 externalId들에 대해 place_mock이 없다면 생성하여 보장.
-     * @return externalId -> PlaceMock 매핑(새로 만든 것도 포함)
+     * 청크당 INSERT ... ON CONFLICT DO NOTHING RETURNING 1문장 후, 결과를 한 번에 다시 읽는다.
+     * 새로 만든 mock이 있으면 그 장소를 담은 요청마다 RequestChangedEvent를 발행한다(커밋 후 상세 캐시 무효화, ETag와 본문을 맞춘다).
+     * @return externalId -> PlaceMock 매핑(새로 만든 것도 포함, places에 없는 id는 제외)
      */
     @Transactional
     public Map<String, PlaceMock> ensureMocks(Collection<String> externalIds) {
         if (externalIds == null || externalIds.isEmpty()) return Map.of();
 
         List<String> ids = externalIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) return Map.of();
 
-        Map<String, PlaceMock> existing = mocks.findByExternalIdIn(ids).stream()
+        List<String> inserted = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            inserted.addAll(jdbc.queryForList(buildSql(chunk.size()), String.class, bindArgs(chunk)));
+        }
+        mockCache.invalidateAll(inserted);
+        if (!inserted.isEmpty()) {
+            List<String> slugs = jdbc.queryForList(AFFECTED_SLUGS, String.class, (Object) inserted.toArray(String[]::new));
+            slugs.forEach(slug -> eventPublisher.publishEvent(new RequestChangedEvent(slug)));
+        }
+
+        return mocks.findByExternalIdIn(ids).stream()
                 .collect(Collectors.toMap(PlaceMock::getExternalId, it -> it));
+    }
 
-        List<PlaceMock> toSave = new ArrayList<>();
-        for (String id : ids) {
-            if (existing.containsKey(id)) continue;
-
-            PlaceMock pm = PlaceMock.builder()
-                    .externalId(id)
-                    .rating(gen.randomRating(id))
-                    .ratingCount(gen.randomRatingCount(id))
-                    .reviewSnippetsJson(gen.randomReviewSnippetJson(id))
-                    .imageUrlsJson(null) // S3 라인은 프론트/업로더에서
-                    .openingHoursJson(gen.randomOpeningHoursJson(id))
-                    .updatedAt(OffsetDateTime.now())
-                    .build();
-
-            toSave.add(pm);
-            existing.put(id, pm);
+    private static String buildSql(int rowCount) {
+        StringBuilder sb = new StringBuilder(INSERT_HEAD);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sb.append(",\n");
+            sb.append(VALUES_ROW);
         }
+        return sb.append('\n').append(INSERT_TAIL).toString();
+    }
 
-        if (!toSave.isEmpty()) {
-            // FK: place_mock.external_id → places.external_id (존재 가정)
-            mocks.saveAll(toSave);
+    private Object[] bindArgs(List<String> chunk) {
+        Object[] args = new Object[chunk.size() * 6];
+        int i = 0;
+        for (String id : chunk) {
+            args[i++] = id;
+            args[i++] = gen.randomRating(id);
+            args[i++] = gen.randomRatingCount(id);
+            args[i++] = gen.randomReviewSnippetJson(id);
+            args[i++] = null; // image_urls: S3 라인은 프론트/업로더에서
+            args[i++] = gen.randomOpeningHoursJson(id);
         }
-        return existing;
+        return args;
     }
 }
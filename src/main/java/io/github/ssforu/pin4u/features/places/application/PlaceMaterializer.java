@@ -0,0 +1,51 @@
+package io.github.ssforu.pin4u.features.places.application;
+
+import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
+import io.github.ssforu.pin4u.features.places.domain.Place;
+import io.github.ssforu.pin4u.features.places.infra.KakaoDocumentStash;
+import io.github.ssforu.pin4u.features.places.infra.PlaceRepository;
+import io.github.ssforu.pin4u.features.places.infra.PlaceRepositoryAdapterImpl;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * external_id → Place 해석.
+ * places에 없으면 검색 사이드 저장소(KakaoDocumentStash)에 남아 있는 문서를 그 자리에서 upsert 한다.
+ * 쓰기 트랜잭션(추천 제출, 요청 생성) 안에서만 호출할 것.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceMaterializer {
+
+    private final PlaceRepository placeRepository;
+    private final PlaceRepositoryAdapterImpl placeUpsertAdapter;
+    private final KakaoDocumentStash stash;
+
+    public Map<String, Place> findOrMaterialize(Collection<String> externalIds) {
+        Map<String, Place> out = new LinkedHashMap<>();
+        if (externalIds == null || externalIds.isEmpty()) return out;
+
+        for (Place p : placeRepository.findByExternalIdIn(externalIds)) {
+            out.putIfAbsent(p.getExternalId(), p);
+        }
+
+        List<String> missing = externalIds.stream()
+                .filter(id -> id != null && !out.containsKey(id))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) return out;
+
+        Map<String, KakaoPayload.Document> stashed = stash.findAll(missing);
+        if (stashed.isEmpty()) return out;
+
+        placeUpsertAdapter.upsertFromKakao(stashed.values());
+        for (Place p : placeRepository.findByExternalIdIn(stashed.keySet())) {
+            out.putIfAbsent(p.getExternalId(), p);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.ssforu.pin4u.features.places.application;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.ssforu.pin4u.features.places.domain.PlaceMock;
+import io.github.ssforu.pin4u.features.places.infra.PlaceMockRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * place_mock 디코딩 캐시. 키: external_id, 값: JSON 배열을 한 번만 파싱한 불변 DecodedMock.
+ * - 검색/상세/그룹 지도 응답 조립 시 행마다 ObjectMapper.readValue 하던 것을 대체
+ * - MockAllocator가 place_mock을 쓰면 해당 키를 무효화
+ * - place_mock 행이 없는 장소는 캐시하지 않는다(이후 생성될 수 있으므로)
+ */
+@Component
+public class PlaceMockCache {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final Cache<Object, Object> cache;
+    private final PlaceMockRepository mockRepository;
+    private final ObjectMapper om;
+
+    public PlaceMockCache(
+            @Qualifier("placeMockCache") Cache<Object, Object> cache,
+            PlaceMockRepository mockRepository,
+            ObjectMapper om) {
+        this.cache = cache;
+        this.mockRepository = mockRepository;
+        this.om = om;
+    }
+
+    /** 파싱된 mock. 리스트 필드는 불변이며, 원본이 비었거나 형식 오류면 null. */
+    public record DecodedMock(
+            Double rating,
+            Integer ratingCount,
+            List<String> reviewSnippets,
+            List<String> imageUrls,
+            List<String> openingHours
+    ) {}
+
+    /** 캐시 적중분은 그대로, 미스분만 place_mock에서 한 번에 읽어 디코딩·적재한다. */
+    public Map<String, DecodedMock> getAll(Collection<String> externalIds) {
+        if (externalIds == null || externalIds.isEmpty()) return Map.of();
+
+        Map<String, DecodedMock> out = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : externalIds) {
+            if (id == null || out.containsKey(id)) continue;
+            DecodedMock hit = (DecodedMock) cache.getIfPresent(id);
+            if (hit != null) out.put(id, hit);
+            else misses.add(id);
+        }
+        if (misses.isEmpty()) return out;
+
+        for (PlaceMock pm : mockRepository.findByExternalIdIn(misses)) {
+            DecodedMock decoded = decode(pm);
+            cache.put(pm.getExternalId(), decoded);
+            out.put(pm.getExternalId(), decoded);
+        }
+        return out;
+    }
+
+    /**
+     * 조인 쿼리로 이미 읽어 온 mock 컬럼을 디코딩. 같은 external_id가 캐시에 있으면 파싱 없이 반환한다.
+     */
+    public DecodedMock fromColumns(String externalId, Double rating, Integer ratingCount,
+                                   String reviewSnippetsJson, String imageUrlsJson, String openingHoursJson) {
+        Objects.requireNonNull(externalId, "externalId");
+        return (DecodedMock) cache.get(externalId, k -> new DecodedMock(
+                rating,
+                ratingCount,
+                parseList(reviewSnippetsJson),
+                parseList(imageUrlsJson),
+                parseList(openingHoursJson)
+        ));
+    }
+
+    public void invalidateAll(Collection<String> externalIds) {
+        if (externalIds == null || externalIds.isEmpty()) return;
+        cache.invalidateAll(externalIds);
+    }
+
+    private DecodedMock decode(PlaceMock pm) {
+        BigDecimal rating = pm.getRating();
+        return new DecodedMock(
+                rating == null ? null : rating.doubleValue(),
+                pm.getRatingCount(),
+                parseList(pm.getReviewSnippetsJson()),
+                parseList(pm.getImageUrlsJson()),
+                parseList(pm.getOpeningHoursJson())
+        );
+    }
+
+    /** JSON 문자열 → 불변 List<String> */
+    private List<String> parseList(String jsonText) {
+        if (jsonText == null || jsonText.isBlank()) return null;
+        try {
+            List<String> parsed = om.readValue(jsonText, STRING_LIST);
+            return parsed == null ? null : parsed.stream().toList();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
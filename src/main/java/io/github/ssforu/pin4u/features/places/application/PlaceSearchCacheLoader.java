@@ -0,0 +1,79 @@
+package io.github.ssforu.pin4u.features.places.application;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.ssforu.pin4u.common.util.SingleFlight;
+import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
+import io.github.ssforu.pin4u.features.places.domain.KakaoSearchPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * placeSearch 캐시 로더.
+ * - 최초 로드: 카카오 호출 결과를 불변 리스트로 저장
+ * - refresh(refreshAfterWrite): 조회 스레드는 기존 값을 즉시 받고, 갱신은 백그라운드에서 수행
+ * - kakaoSearch 서킷이 CLOSED가 아닐 때의 결과(카탈로그 대체 결과 포함)는 캐시하지 않는다
+ */
+@Slf4j
+@Component
+public class PlaceSearchCacheLoader implements CacheLoader<Object, Object> {
+
+    private final KakaoSearchPort kakaoSearchPort;
+    private final SingleFlight<PlaceSearchKey, List<KakaoPayload.Document>> flight;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final Counter staleKept;
+
+    public PlaceSearchCacheLoader(
+            KakaoSearchPort kakaoSearchPort,
+            SingleFlight<PlaceSearchKey, List<KakaoPayload.Document>> kakaoSearchFlight,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry) {
+        this.kakaoSearchPort = kakaoSearchPort;
+        this.flight = kakaoSearchFlight;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.staleKept = Counter.builder("place.search.cache.stale.kept")
+                .description("refresh 결과가 비어 기존 검색 결과를 유지한 횟수")
+                .register(meterRegistry);
+    }
+
+    /** 캐시 가능한 결과만 적재한다. null 반환 시 엔트리가 생기지 않음. */
+    @Override
+    public Object load(Object key) {
+        List<KakaoPayload.Document> docs = fetch((PlaceSearchKey) key);
+        return cacheable(docs) ? List.copyOf(docs) : null;
+    }
+
+    /** 카카오 호출(fallback 포함). 같은 키의 논블로킹 경로(searchReactive) 호출과도 업스트림 1회를 공유 */
+    public List<KakaoPayload.Document> fetch(PlaceSearchKey k) {
+        List<KakaoPayload.Document> docs = flight.execute(k, () -> kakaoSearchPort.keywordSearch(
+                k.lat(), k.lng(), k.keyword(), k.radiusM(), k.size()));
+        return docs == null ? List.of() : docs;
+    }
+
+    /** 빈 결과, 서킷이 CLOSED가 아닐 때의 결과(fallback일 수 있음)는 캐시하지 않는다. */
+    public boolean cacheable(List<KakaoPayload.Document> docs) {
+        if (docs == null || docs.isEmpty()) return false;
+        return circuitClosed();
+    }
+
+    /** kakaoSearch 서킷이 CLOSED인지(아니면 fetch 결과가 카탈로그 대체 결과일 수 있음) */
+    public boolean circuitClosed() {
+        return circuitBreakerRegistry.circuitBreaker("kakaoSearch").getState() == CircuitBreaker.State.CLOSED;
+    }
+
+    /** 갱신 결과가 비면(업스트림 장애 포함) 기존 값을 유지한다. */
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        Object fresh = load(key);
+        if (fresh == null) {
+            staleKept.increment();
+            log.debug("[PlaceSearchCache] refresh returned empty, keeping stale value for {}", key);
+            return oldValue;
+        }
+        return fresh;
+    }
+}
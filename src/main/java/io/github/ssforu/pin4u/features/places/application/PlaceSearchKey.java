@@ -0,0 +1,39 @@
+package io.github.ssforu.pin4u.features.places.application;
+
+import io.github.ssforu.pin4u.common.util.KoreanText;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 카카오 키워드 검색 결과 캐시 키.
+ * 동등성은 (역 코드, 정규화 키워드, 반경, size) 기준이다.
+ * 좌표는 역 코드에 종속되므로 비교에서 제외하고, refresh 시 재호출용으로만 보관한다.
+ */
+public record PlaceSearchKey(
+        String stationCode,
+        String keyword,
+        int radiusM,
+        int size,
+        BigDecimal lat,
+        BigDecimal lng
+) {
+    public static PlaceSearchKey of(String stationCode, String keyword, int radiusM, int size,
+                                    BigDecimal lat, BigDecimal lng) {
+        return new PlaceSearchKey(stationCode, KoreanText.normalize(keyword), radiusM, size, lat, lng);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PlaceSearchKey k)) return false;
+        return radiusM == k.radiusM
+                && size == k.size
+                && Objects.equals(stationCode, k.stationCode)
+                && Objects.equals(keyword, k.keyword);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stationCode, keyword, radiusM, size);
+    }
+}
@@ -2,6 +2,7 @@
 package io.github.ssforu.pin4u.features.places.application;
 
 import io.github.ssforu.pin4u.features.places.dto.PlaceDtos;
+import reactor.core.publisher.Mono;
 
 public interface PlaceSearchService {
     // ✅ limit를 선택 파라미터로 받음
@@ -11,4 +12,7 @@ public interface PlaceSearchService {
         return search(stationCode, q, null);
     }
 
+    // 논블로킹 변형: 카카오 호출 대기 중 스레드를 점유하지 않음
+    Mono<PlaceDtos.SearchResponse> searchReactive(String stationCode, String q, Integer limit);
+
 }
@@ -1,61 +1,107 @@
 // src/main/java/io/github/ssforu/pin4u/features/places/application/PlaceSearchServiceImpl.java
 package io.github.ssforu.pin4u.features.places.application;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.github.ssforu.pin4u.common.exception.ApiErrorCode;
 import io.github.ssforu.pin4u.common.exception.ApiException;
+import io.github.ssforu.pin4u.common.util.GeoDistance;
+import io.github.ssforu.pin4u.common.util.SingleFlight;
 import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
 import io.github.ssforu.pin4u.features.places.domain.KakaoSearchPort;
 import io.github.ssforu.pin4u.features.places.dto.PlaceDtos;
-import io.github.ssforu.pin4u.features.places.infra.PlaceMockRepository;
+import io.github.ssforu.pin4u.features.places.infra.KakaoDocumentStash;
 import io.github.ssforu.pin4u.features.places.infra.PlaceRepositoryAdapterImpl;
-import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
 import java.math.BigDecimal;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 public class PlaceSearchServiceImpl implements PlaceSearchService {
 
-    private final StationRepository stationRepository;
+    private final StationRegistry stationRegistry;
+    private final LoadingCache<Object, Object> searchCache;
+    private final PlaceSearchCacheLoader cacheLoader;
     private final KakaoSearchPort kakaoSearchPort;
+    private final SingleFlight<PlaceSearchKey, List<KakaoPayload.Document>> kakaoSearchFlight;
     private final PlaceRepositoryAdapterImpl placeUpsertAdapter;
-    private final PlaceMockRepository mockRepository;
-    private final ObjectMapper om;
+    private final KakaoDocumentStash stash;
+    private final PlaceMockCache mockCache;
     private final int radiusM;
     private final int topN;
+    private final boolean writeFree;
 
     public PlaceSearchServiceImpl(
-            StationRepository stationRepository,
+            StationRegistry stationRegistry,
+            @Qualifier("placeSearchCache") LoadingCache<Object, Object> searchCache,
+            PlaceSearchCacheLoader cacheLoader,
             KakaoSearchPort kakaoSearchPort,
+            SingleFlight<PlaceSearchKey, List<KakaoPayload.Document>> kakaoSearchFlight,
             PlaceRepositoryAdapterImpl placeUpsertAdapter,
-            PlaceMockRepository mockRepository,
-            ObjectMapper om,
+            KakaoDocumentStash stash,
+            PlaceMockCache mockCache,
             @Value("${app.search.stationRadiusM:800}") int radiusM,
-            @Value("${app.search.topN:10}") int topN
+            @Value("${app.search.topN:10}") int topN,
+            @Value("${app.search.write-free:false}") boolean writeFree
     ) {
-        this.stationRepository = stationRepository;
+        this.stationRegistry = stationRegistry;
+        this.searchCache = searchCache;
+        this.cacheLoader = cacheLoader;
         this.kakaoSearchPort = kakaoSearchPort;
+        this.kakaoSearchFlight = kakaoSearchFlight;
         this.placeUpsertAdapter = placeUpsertAdapter;
-        this.mockRepository = mockRepository;
-        this.om = om;
+        this.stash = stash;
+        this.mockCache = mockCache;
         this.radiusM = radiusM;
         this.topN = topN;
+        this.writeFree = writeFree;
     }
 
+    // 서비스 레벨 트랜잭션 없음: 조회는 각 리포지토리의 readOnly 트랜잭션,
+    // eager 모드의 upsert만 어댑터 자체 트랜잭션으로 짧게 수행한다.
     @Override
-    @Transactional // write 허용(places upsert 포함)
     public PlaceDtos.SearchResponse search(String stationCode, String q, Integer limit) {
         // 0) limit 정규화 (1~50만 허용, 아니면 topN 사용)
-        final int size = (limit != null && limit >= 1 && limit <= 50) ? limit : topN;
+        final int size = normalizeSize(limit);
 
-        // 1) 입력 정리/검증
+        // 1~2) 입력 검증 + 역 조회
+        StationRegistry.Entry st = resolveStation(stationCode, q);
+
+        // 3~4) 카카오 검색 (반경/TopN→size 정책 적용, placeSearch 캐시 경유)
+        List<KakaoPayload.Document> docs = cachedSearch(searchKey(st, q, size));
+
+        return assemble(st, docs, size);
+    }
+
+    /**
+     * 논블로킹 검색. 카카오 호출 동안 서블릿 워커를 점유하지 않는다.
+     * 역 조회/upsert/mock 병합 같은 블로킹 JDBC 구간은 boundedElastic 에서 수행.
+     */
+    @Override
+    public Mono<PlaceDtos.SearchResponse> searchReactive(String stationCode, String q, Integer limit) {
+        final int size = normalizeSize(limit);
+        return Mono.fromCallable(() -> resolveStation(stationCode, q))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(st -> {
+                    PlaceSearchKey key = searchKey(st, q, size);
+                    return reactiveSearch(key)
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(docs -> assemble(st, docs, size));
+                });
+    }
+
+    private int normalizeSize(Integer limit) {
+        return (limit != null && limit >= 1 && limit <= 50) ? limit : topN;
+    }
+
+    /** 입력 정리/검증 후 역 조회 */
+    private StationRegistry.Entry resolveStation(String stationCode, String q) {
         final String station = (stationCode == null) ? null : stationCode.trim();
         final String keyword = (q == null) ? null : q.trim();
 
@@ -66,45 +112,48 @@ public class PlaceSearchServiceImpl implements PlaceSearchService {
             throw new ApiException(ApiErrorCode.BAD_REQUEST, "invalid request", details);
         }
 
-        // 2) 역 조회
-        var st = stationRepository.findByCode(station)
+        return stationRegistry.find(station)
                 .orElseThrow(() -> new ApiException(
                         ApiErrorCode.NOT_FOUND, "station_code not found", Map.of("station", station)));
+    }
 
-        // 3) 좌표(BigDecimal 유지)
-        BigDecimal lat = st.getLat();
-        BigDecimal lng = st.getLng();
-
-        // 4) 카카오 검색 (반경/TopN→size 정책 적용)
-        List<KakaoPayload.Document> docs =
-                kakaoSearchPort.keywordSearch(lat, lng, keyword, radiusM, size);
+    private PlaceSearchKey searchKey(StationRegistry.Entry st, String q, int size) {
+        return PlaceSearchKey.of(st.code(), q.trim(), radiusM, size, st.lat(), st.lng());
+    }
 
-        // 5) places upsert
-        placeUpsertAdapter.upsertFromKakao(docs);
+    /** 검색 결과 → places 반영 + mock 병합 + 정렬 */
+    private PlaceDtos.SearchResponse assemble(StationRegistry.Entry st, List<KakaoPayload.Document> docs, int size) {
+        // 3) 좌표(BigDecimal 유지)
+        BigDecimal lat = st.lat();
+        BigDecimal lng = st.lng();
+
+        // 5) places upsert (write-free 모드면 사이드 저장소에만 보관 → 추천/요청 생성 시 승격)
+        if (writeFree) {
+            stash.putAll(docs);
+        } else {
+            placeUpsertAdapter.upsertFromKakao(docs);
+        }
 
-        // 6) place_mock 병합 준비
+        // 6) place_mock 병합 준비 (디코딩 캐시 미스분만 DB 조회)
         List<String> externalIds = docs.stream().map(d -> "kakao:" + d.id()).toList();
-        Map<String, io.github.ssforu.pin4u.features.places.domain.PlaceMock> mocks =
-                mockRepository.findByExternalIdIn(externalIds).stream()
-                        .collect(Collectors.toMap(
-                                io.github.ssforu.pin4u.features.places.domain.PlaceMock::getExternalId,
-                                Function.identity()
-                        ));
-
-        // 7) DTO 조립 + 정렬 (거리↑ → 평점↓ → 평점수↓), 그리고 size 제한
-        List<PlaceDtos.Item> items = docs.stream().map(d -> {
+        Map<String, PlaceMockCache.DecodedMock> mocks = mockCache.getAll(externalIds);
+
+        // 7) DTO 조립 + 정렬 (거리↑ → 평점↓ → 평점수↓, 페이지 병합 후 한 번만), 그리고 size 제한
+        int[] computed = computeDistances(docs, st.origin());
+        List<PlaceDtos.Item> items = IntStream.range(0, docs.size()).mapToObj(i -> {
+            KakaoPayload.Document d = docs.get(i);
             String externalId = "kakao:" + d.id();
-            Integer distanceM = safeDistance(d, lat, lng);
+            Integer distanceM = safeDistance(d, computed[i]);
 
             var mock = mocks.get(externalId);
             PlaceDtos.MockDto mockDto = null;
             if (mock != null) {
                 mockDto = new PlaceDtos.MockDto(
-                        mock.getRating() == null ? null : mock.getRating().doubleValue(),
-                        mock.getRatingCount(),
-                        parseList(mock.getReviewSnippetsJson()),
-                        parseList(mock.getImageUrlsJson()),
-                        parseList(mock.getOpeningHoursJson())
+                        mock.rating(),
+                        mock.ratingCount(),
+                        mock.reviewSnippets(),
+                        mock.imageUrls(),
+                        mock.openingHours()
                 );
             }
 
@@ -141,47 +190,60 @@ public class PlaceSearchServiceImpl implements PlaceSearchService {
 
         // 8) 역 요약
         var stationBrief = new PlaceDtos.StationBrief(
-                st.getCode(), st.getName(), st.getLine(), lat, lng
+                st.code(), st.name(), st.line(), lat, lng
         );
 
         // 9) 응답
         return new PlaceDtos.SearchResponse(stationBrief, items);
     }
 
-    /** Kakao distance(m) 우선, 없으면 하버사인 */
-    private Integer safeDistance(KakaoPayload.Document d, BigDecimal lat, BigDecimal lng) {
+    /**
+     * 캐시 적중이면 그대로, 미스면 논블로킹 호출 후 비어있지 않은 결과만 캐시에 적재.
+     * 같은 키의 동시 호출은 single-flight로 합쳐 업스트림 1회만 호출한다(공유 future는 취소하지 않음).
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<List<KakaoPayload.Document>> reactiveSearch(PlaceSearchKey key) {
+        Object cached = searchCache.getIfPresent(key);
+        if (cached != null) return Mono.just((List<KakaoPayload.Document>) cached);
+        return Mono.fromFuture(() -> kakaoSearchFlight.submit(key, () -> kakaoSearchPort
+                                .keywordSearchReactive(key.lat(), key.lng(), key.keyword(), key.radiusM(), key.size())
+                                .toFuture()), true)
+                .doOnNext(docs -> {
+                    if (cacheLoader.cacheable(docs)) searchCache.put(key, List.copyOf(docs));
+                });
+    }
+
+    /**
+     * LoadingCache 경유 조회(같은 키의 동시 미스는 로드 1회, hit/miss/load 통계 유지).
+     * 로더가 적재하지 않은 경우: 서킷이 CLOSED면 빈 결과, 아니면 카탈로그 대체 결과를 응답에만 쓴다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<KakaoPayload.Document> cachedSearch(PlaceSearchKey key) {
+        Object cached = searchCache.get(key);
+        if (cached != null) return (List<KakaoPayload.Document>) cached;
+        return cacheLoader.circuitClosed() ? List.of() : cacheLoader.fetch(key);
+    }
+
+    /** Kakao distance(m) 우선, 없으면 역 좌표 기준 계산값 */
+    private Integer safeDistance(KakaoPayload.Document d, int computed) {
         try {
             String dist = d.distance();
             if (dist != null && !dist.isBlank()) return Integer.parseInt(dist);
         } catch (Exception ignore) {}
-        try {
-            double y = Double.parseDouble(d.y());
-            double x = Double.parseDouble(d.x());
-            return haversineM(lat.doubleValue(), lng.doubleValue(), y, x);
-        } catch (Exception e) {
-            return null;
-        }
+        return computed == GeoDistance.UNKNOWN ? null : computed;
     }
 
-    private int haversineM(double lat1, double lng1, double lat2, double lng2) {
-        final double R = 6371000.0;
-        double φ1 = Math.toRadians(lat1);
-        double φ2 = Math.toRadians(lat2);
-        double dφ = Math.toRadians(lat2 - lat1);
-        double dλ = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(dφ/2)*Math.sin(dφ/2) +
-                Math.cos(φ1)*Math.cos(φ2)*Math.sin(dλ/2)*Math.sin(dλ/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return (int)Math.round(R * c);
-    }
-
-    /** JSON 문자열 → List<String> */
-    private List<String> parseList(String jsonText) {
-        if (jsonText == null || jsonText.isBlank()) return null;
-        try {
-            return om.readValue(jsonText, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return null;
+    /** 문서 좌표 → 역 기준 거리(m) 일괄 계산. 좌표가 없으면 UNKNOWN */
+    private int[] computeDistances(List<KakaoPayload.Document> docs, GeoDistance.Origin origin) {
+        int n = docs.size();
+        int[] out = new int[n];
+        double[] ys = new double[n];
+        double[] xs = new double[n];
+        for (int i = 0; i < n; i++) {
+            ys[i] = GeoDistance.parse(docs.get(i).y());
+            xs[i] = GeoDistance.parse(docs.get(i).x());
         }
+        origin.distances(ys, xs, out);
+        return out;
     }
 }
@@ -3,7 +3,14 @@ package io.github.ssforu.pin4u.features.places.domain;
 import java.util.List;
 
 public final class KakaoPayload {
-    public record SearchResponse(List<Document> documents) {}
+    public record SearchResponse(List<Document> documents, Meta meta) {}
+
+    // 페이지 메타: is_end=true 이면 이후 페이지는 없음
+    public record Meta(
+            Integer total_count,
+            Integer pageable_count,
+            Boolean is_end
+    ) {}
 
     public record Document(
             String id,
@@ -2,10 +2,23 @@ package io.github.ssforu.pin4u.features.places.domain;
 
 import java.math.BigDecimal;
 import java.util.List;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public interface KakaoSearchPort {
     /** 키워드 + 반경 검색 (lat=y, lng=x, 카카오 스펙) */
     List<KakaoPayload.Document> keywordSearch(
             BigDecimal lat, BigDecimal lng, String query, int radiusM, int size
     );
+
+    /**
+     * 논블로킹 변형. 호출 스레드(서블릿 워커)를 점유하지 않는다.
+     * 기본 구현은 동기 버전을 boundedElastic 에 위임하므로, WebClient 기반 구현은 재정의할 것.
+     */
+    default Mono<List<KakaoPayload.Document>> keywordSearchReactive(
+            BigDecimal lat, BigDecimal lng, String query, int radiusM, int size
+    ) {
+        return Mono.fromCallable(() -> keywordSearch(lat, lng, query, radiusM, size))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 }
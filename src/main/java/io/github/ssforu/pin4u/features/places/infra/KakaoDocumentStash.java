@@ -0,0 +1,43 @@
+package io.github.ssforu.pin4u.features.places.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과로 받은 카카오 문서를 external_id("kakao:{id}") 기준으로 잠시 보관하는 사이드 저장소.
+ * write-free 검색 모드에서 places 대신 여기에 두었다가, 추천/요청 생성 시점에만 places로 승격한다.
+ */
+@Component
+public class KakaoDocumentStash {
+
+    private final Cache<Object, Object> cache;
+
+    public KakaoDocumentStash(@Qualifier("kakaoDocumentCache") Cache<Object, Object> cache) {
+        this.cache = cache;
+    }
+
+    public void putAll(Collection<KakaoPayload.Document> docs) {
+        if (docs == null) return;
+        for (KakaoPayload.Document d : docs) {
+            if (d == null || d.id() == null || d.id().isBlank()) continue;
+            cache.put("kakao:" + d.id(), d);
+        }
+    }
+
+    /** 보관 중인 문서만 반환(만료/미보관 키는 제외) */
+    public Map<String, KakaoPayload.Document> findAll(Collection<String> externalIds) {
+        Map<String, KakaoPayload.Document> out = new LinkedHashMap<>();
+        if (externalIds == null) return out;
+        for (String externalId : externalIds) {
+            if (externalId == null) continue;
+            Object doc = cache.getIfPresent(externalId);
+            if (doc instanceof KakaoPayload.Document d) out.put(externalId, d);
+        }
+        return out;
+    }
+}
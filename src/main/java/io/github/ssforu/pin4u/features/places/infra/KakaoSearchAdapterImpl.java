@@ -1,5 +1,6 @@
 package io.github.ssforu.pin4u.features.places.infra;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.ssforu.pin4u.common.exception.ApiErrorCode;
@@ -7,28 +8,41 @@ import io.github.ssforu.pin4u.common.exception.ApiException;
 import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
 import io.github.ssforu.pin4u.features.places.domain.KakaoSearchPort;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
 @ConditionalOnBean(name = "kakaoWebClient")
 public class KakaoSearchAdapterImpl implements KakaoSearchPort {
 
+    // 카카오 키워드 검색 스펙: size 1~15, page 1~45
+    private static final int KAKAO_PAGE_SIZE = 15;
+    private static final int KAKAO_MAX_PAGE = 45;
+
     private final WebClient kakao;
     private final boolean enabled;
+    private final PlaceSpatialCatalog catalog;
 
     public KakaoSearchAdapterImpl(
             @Qualifier("kakaoWebClient") WebClient kakaoWebClient,
-            @Value("${app.kakao.enabled:true}") boolean enabled
+            @Value("${app.kakao.enabled:true}") boolean enabled,
+            PlaceSpatialCatalog catalog
     ) {
         this.kakao = kakaoWebClient;
         this.enabled = enabled;
+        this.catalog = catalog;
     }
 
     // Retry가 안쪽에서 재시도하고, 재시도 실패가 CircuitBreaker에 기록된다.
@@ -41,28 +55,106 @@ public class KakaoSearchAdapterImpl implements KakaoSearchPort {
         if (!enabled) {
             throw new ApiException(ApiErrorCode.UPSTREAM_ERROR, "kakao disabled", null);
         }
-        var resp = kakao.get()
+        return fetch(lat, lng, query, radiusM, size).block();
+    }
+
+    // Mono 반환 메서드에는 Resilience4j가 Reactor 연산자로 적용된다(재시도·CB 판정 모두 구독 시점).
+    @Override
+    @CircuitBreaker(name = "kakaoSearch", fallbackMethod = "keywordSearchReactiveFallback")
+    @Retry(name = "kakaoSearch")
+    public Mono<List<KakaoPayload.Document>> keywordSearchReactive(
+            BigDecimal lat, BigDecimal lng, String query, int radiusM, int size
+    ) {
+        if (!enabled) {
+            return Mono.error(new ApiException(ApiErrorCode.UPSTREAM_ERROR, "kakao disabled", null));
+        }
+        return fetch(lat, lng, query, radiusM, size);
+    }
+
+    /**
+     * size가 한 페이지(15)를 넘으면 page=1..N 을 동시에 요청하고 페이지 순서대로 병합한다.
+     * 지연은 페이지 1개 수준. 중복 문서는 id 기준으로 제거하고, 정렬은 서비스에서 한 번만 수행.
+     */
+    private Mono<List<KakaoPayload.Document>> fetch(
+            BigDecimal lat, BigDecimal lng, String query, int radiusM, int size
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), KAKAO_PAGE_SIZE);
+        int pages = Math.min(KAKAO_MAX_PAGE, (size + KAKAO_PAGE_SIZE - 1) / KAKAO_PAGE_SIZE);
+        if (pages <= 1) {
+            return fetchPage(lat, lng, query, radiusM, pageSize, 1)
+                    .map(body -> merge(List.of(body), size));
+        }
+        return Flux.range(1, pages)
+                .flatMapSequential(page -> fetchPage(lat, lng, query, radiusM, pageSize, page), pages)
+                .collectList()
+                .map(bodies -> merge(bodies, size));
+    }
+
+    private Mono<KakaoPayload.SearchResponse> fetchPage(
+            BigDecimal lat, BigDecimal lng, String query, int radiusM, int pageSize, int page
+    ) {
+        return kakao.get()
                 .uri(u -> u.path("/v2/local/search/keyword.json")
                         .queryParam("query", query)
                         .queryParam("y", lat)   // 위도
                         .queryParam("x", lng)   // 경도
                         .queryParam("radius", radiusM)
-                        .queryParam("size", size)
+                        .queryParam("size", pageSize)
+                        .queryParam("page", page)
                         .build())
                 .retrieve()
-                .toEntity(KakaoPayload.SearchResponse.class)
-                .block();
+                .bodyToMono(KakaoPayload.SearchResponse.class)
+                .switchIfEmpty(Mono.error(() ->
+                        new ApiException(ApiErrorCode.UPSTREAM_ERROR, "kakao search failed", null)));
+    }
 
-        if (resp == null || resp.getBody() == null) {
-            throw new ApiException(ApiErrorCode.UPSTREAM_ERROR, "kakao search failed", null);
+    /** 페이지 순서대로 id 기준 중복 제거. is_end 페이지 이후는 버린다(마지막 페이지 반복 응답 대비). */
+    private static List<KakaoPayload.Document> merge(List<KakaoPayload.SearchResponse> bodies, int size) {
+        Map<String, KakaoPayload.Document> byId = new LinkedHashMap<>();
+        for (KakaoPayload.SearchResponse body : bodies) {
+            if (body.documents() != null) {
+                for (KakaoPayload.Document d : body.documents()) {
+                    if (d == null || d.id() == null) continue;
+                    byId.putIfAbsent(d.id(), d);
+                    if (byId.size() >= size) return new ArrayList<>(byId.values());
+                }
+            }
+            if (body.meta() != null && Boolean.TRUE.equals(body.meta().is_end())) break;
         }
-        return resp.getBody().documents();
+        return new ArrayList<>(byId.values());
     }
 
     @SuppressWarnings("unused")
     private List<KakaoPayload.Document> keywordSearchFallback(
             BigDecimal lat, BigDecimal lng, String query, int radiusM, int size, Throwable t) {
         log.warn("[Kakao] search fallback for query='{}': {}", query, t.getMessage());
-        return List.of();
+        return fromCatalog(lat, lng, query, radiusM, size, t);
+    }
+
+    @SuppressWarnings("unused")
+    private Mono<List<KakaoPayload.Document>> keywordSearchReactiveFallback(
+            BigDecimal lat, BigDecimal lng, String query, int radiusM, int size, Throwable t) {
+        log.warn("[Kakao] reactive search fallback for query='{}': {}", query, t.getMessage());
+        if (!(t instanceof CallNotPermittedException)) return Mono.just(List.of());
+        // 카탈로그 보강에 places 조회가 있으므로 이벤트 루프 밖에서 실행
+        return Mono.fromCallable(() -> fromCatalog(lat, lng, query, radiusM, size, t))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 서킷 OPEN(호출 자체가 차단된 상태)일 때만 로컬 카탈로그 결과로 대체한다.
+     * 개별 호출 실패(타임아웃·4xx 등)는 기존대로 빈 결과.
+     */
+    private List<KakaoPayload.Document> fromCatalog(
+            BigDecimal lat, BigDecimal lng, String query, int radiusM, int size, Throwable t) {
+        if (!(t instanceof CallNotPermittedException)) return List.of();
+        try {
+            List<KakaoPayload.Document> docs = catalog.search(lat, lng, query, radiusM, size);
+            log.info("[Kakao] circuit open → catalog served {} docs for query='{}'", docs.size(), query);
+            return docs;
+        } catch (RuntimeException e) {
+            log.warn("[Kakao] catalog fallback failed: {}", e.getMessage());
+            return List.of();
+        }
     }
 }
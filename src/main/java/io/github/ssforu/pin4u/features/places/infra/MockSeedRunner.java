@@ -0,0 +1,227 @@
+package io.github.ssforu.pin4u.features.places.infra;
+
+import io.github.ssforu.pin4u.features.places.application.MockDataGenerator;
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 성능 테스트 환경용 places/place_mock 벌크 시딩.
+ * - 입력: scripts/mock/gen_mock_places.sh (MODE=seed)로 만든 CSV, 없으면 역 좌표 주변에 합성 장소를 생성
+ * - COPY FROM STDIN 으로 임시 테이블에 스트리밍 후 INSERT ... ON CONFLICT DO NOTHING 으로 반영(재실행 안전)
+ * - mock 값은 MockDataGenerator(external_id 시드)로 만들어 MockAllocator와 같은 결과가 나온다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        value = "pin4u.mock.seed.enabled",
+        havingValue = "true",
+        matchIfMissing = false
+)
+public class MockSeedRunner implements ApplicationRunner {
+
+    private static final int FLUSH_BYTES = 1 << 20;
+    private static final double METERS_PER_DEG = 111_195.0;
+    private static final double SEOUL_CITY_HALL_LAT = 37.5665;
+    private static final double SEOUL_CITY_HALL_LNG = 126.9780;
+
+    private static final String[][] CATEGORIES = {
+            {"FD6", "음식점", "음식점 > 한식"},
+            {"FD6", "음식점", "음식점 > 일식"},
+            {"FD6", "음식점", "음식점 > 양식"},
+            {"CE7", "카페", "음식점 > 카페"},
+            {"CE7", "카페", "음식점 > 카페 > 디저트카페"},
+    };
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final MockDataGenerator gen;
+    private final int count;
+    private final int radiusM;
+    private final String csvPath;
+
+    public MockSeedRunner(
+            DataSource dataSource,
+            JdbcTemplate jdbc,
+            MockDataGenerator gen,
+            @Value("${app.mock.seed.count:100000}") int count,
+            @Value("${app.mock.seed.radius-m:1500}") int radiusM,
+            @Value("${app.mock.seed.csv-path:}") String csvPath
+    ) {
+        this.dataSource = dataSource;
+        this.jdbc = jdbc;
+        this.gen = gen;
+        this.count = count;
+        this.radiusM = radiusM;
+        this.csvPath = csvPath;
+    }
+
+    private record SeedPlace(String externalId, String name, String groupCode, String groupName,
+                             String categoryName, String x, String y) {}
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long started = System.currentTimeMillis();
+
+        try (Connection conn = dataSource.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                st.execute("""
+                        CREATE TEMP TABLE seed_places (
+                          external_id VARCHAR(100), place_name VARCHAR(255),
+                          category_group_code VARCHAR(10), category_group_name VARCHAR(50),
+                          category_name VARCHAR(255), x VARCHAR(50), y VARCHAR(50)
+                        ) ON COMMIT DROP
+                        """);
+                st.execute("""
+                        CREATE TEMP TABLE seed_mocks (
+                          external_id VARCHAR(100), rating NUMERIC(2,1), rating_count INT,
+                          review_snippets TEXT, opening_hours TEXT
+                        ) ON COMMIT DROP
+                        """);
+
+                CopyManager copy = conn.unwrap(PGConnection.class).getCopyAPI();
+                CopyIn places = copy.copyIn("COPY seed_places FROM STDIN WITH (FORMAT csv)");
+                CsvStream placeOut = new CsvStream(places);
+                long read = source(p -> placeOut.row(p.externalId(), p.name(), p.groupCode(), p.groupName(),
+                        p.categoryName(), p.x(), p.y()));
+                placeOut.close();
+
+                // 두 COPY는 한 커넥션에서 순차로만 열 수 있어 mock은 장소 COPY 이후에 스트리밍.
+                // 행을 메모리에 모으지 않고 소스를 한 번 더 읽는다(CSV 재읽기/같은 시드의 합성 생성 → 같은 external_id)
+                CopyIn mocks = copy.copyIn("COPY seed_mocks FROM STDIN WITH (FORMAT csv)");
+                CsvStream mockOut = new CsvStream(mocks);
+                source(p -> {
+                    String id = p.externalId();
+                    mockOut.row(id, gen.randomRating(id).toPlainString(),
+                            Integer.toString(gen.randomRatingCount(id)),
+                            gen.randomReviewSnippetJson(id), gen.randomOpeningHoursJson(id));
+                });
+                mockOut.close();
+
+                int insertedPlaces = st.executeUpdate("""
+                        INSERT INTO places (external_id, place_name, category_group_code, category_group_name,
+                                            category_name, x, y, created_at, updated_at)
+                        SELECT DISTINCT ON (external_id)
+                               external_id, place_name, category_group_code, category_group_name,
+                               category_name, x, y, now(), now()
+                        FROM seed_places
+                        ON CONFLICT (external_id) DO NOTHING
+                        """);
+                int insertedMocks = st.executeUpdate("""
+                        INSERT INTO place_mock (external_id, rating, rating_count, review_snippets, opening_hours, updated_at)
+                        SELECT DISTINCT ON (m.external_id)
+                               m.external_id, m.rating, m.rating_count, m.review_snippets, m.opening_hours, now()
+                        FROM seed_mocks m
+                        JOIN places p ON p.external_id = m.external_id
+                        ON CONFLICT (external_id) DO NOTHING
+                        """);
+                conn.commit();
+                log.info("[mock-seed] {} rows read, places +{}, place_mock +{} in {}ms",
+                        read, insertedPlaces, insertedMocks, System.currentTimeMillis() - started);
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /** CSV 파일이 지정되면 그대로, 아니면 합성 데이터를 생성해 sink로 흘린다. */
+    private long source(Consumer<SeedPlace> sink) throws Exception {
+        if (csvPath != null && !csvPath.isBlank()) {
+            long n = 0;
+            try (BufferedReader br = Files.newBufferedReader(Path.of(csvPath), StandardCharsets.UTF_8)) {
+                String header = br.readLine(); // external_id,place_name,category_group_code,category_group_name,category_name,x,y
+                if (header == null) return 0;
+                String line;
+                while ((line = br.readLine()) != null) {
+                    String[] t = line.split(",", -1);
+                    if (t.length < 7 || t[0].isBlank()) continue;
+                    sink.accept(new SeedPlace(t[0], t[1], t[2], t[3], t[4], t[5], t[6]));
+                    n++;
+                }
+            }
+            return n;
+        }
+
+        List<double[]> centers = jdbc.query("SELECT lat, lng FROM stations",
+                (rs, i) -> new double[]{rs.getDouble("lat"), rs.getDouble("lng")});
+        if (centers.isEmpty()) centers = List.<double[]>of(new double[]{SEOUL_CITY_HALL_LAT, SEOUL_CITY_HALL_LNG});
+
+        Random r = new Random(42);
+        for (int i = 0; i < count; i++) {
+            double[] c = centers.get(i % centers.size());
+            double dist = radiusM * Math.sqrt(r.nextDouble());
+            double theta = r.nextDouble() * 2 * Math.PI;
+            double lat = c[0] + dist * Math.sin(theta) / METERS_PER_DEG;
+            double lng = c[1] + dist * Math.cos(theta) / (METERS_PER_DEG * Math.cos(Math.toRadians(c[0])));
+            String[] cat = CATEGORIES[i % CATEGORIES.length];
+            sink.accept(new SeedPlace(
+                    "kakao:seed" + i,
+                    cat[1] + " 시드 " + i + "호점",
+                    cat[0], cat[1], cat[2],
+                    String.format(Locale.ROOT, "%.7f", lng),
+                    String.format(Locale.ROOT, "%.7f", lat)));
+        }
+        return count;
+    }
+
+    /** CopyIn 위에 CSV 행을 버퍼링해 흘려보낸다. null → 빈 필드(= NULL). */
+    private static final class CsvStream {
+        private final CopyIn in;
+        private final StringBuilder buf = new StringBuilder(FLUSH_BYTES + 4096);
+
+        CsvStream(CopyIn in) {
+            this.in = in;
+        }
+
+        void row(String... cols) {
+            for (int i = 0; i < cols.length; i++) {
+                if (i > 0) buf.append(',');
+                String v = cols[i];
+                if (v == null) continue;
+                buf.append('"').append(v.replace("\"", "\"\"")).append('"');
+            }
+            buf.append('\n');
+            if (buf.length() >= FLUSH_BYTES) flush();
+        }
+
+        void close() throws Exception {
+            flush();
+            in.endCopy();
+        }
+
+        private void flush() {
+            if (buf.isEmpty()) return;
+            byte[] bytes = buf.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                in.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException e) {
+                throw new IllegalStateException("COPY write failed", e);
+            }
+            buf.setLength(0);
+        }
+    }
+}
@@ -2,60 +2,121 @@
 package io.github.ssforu.pin4u.features.places.infra;
 
 import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
-import io.github.ssforu.pin4u.features.places.domain.Place;
-import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class PlaceRepositoryAdapterImpl {
-    private final PlaceRepository placeRepository;
 
-    public PlaceRepositoryAdapterImpl(PlaceRepository placeRepository) {
-        this.placeRepository = placeRepository;
+    // 파라미터 상한(32767) 대비 여유 있게 청크 분할 (11 컬럼 × 500행)
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_HEAD = """
+            INSERT INTO places (external_id, place_name, category_group_code, category_group_name,
+                                category_name, phone, address_name, road_address_name,
+                                x, y, place_url, created_at, updated_at)
+            VALUES
+            """;
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now())";
+
+    // 값이 하나도 바뀌지 않은 행은 UPDATE 자체를 건너뛴다(dead tuple·WAL 미발생)
+    private static final String ON_CONFLICT = """
+            ON CONFLICT (external_id) DO UPDATE SET
+                place_name          = EXCLUDED.place_name,
+                category_group_code = EXCLUDED.category_group_code,
+                category_group_name = EXCLUDED.category_group_name,
+                category_name       = EXCLUDED.category_name,
+                phone               = EXCLUDED.phone,
+                address_name        = EXCLUDED.address_name,
+                road_address_name   = EXCLUDED.road_address_name,
+                x                   = EXCLUDED.x,
+                y                   = EXCLUDED.y,
+                place_url           = EXCLUDED.place_url,
+                updated_at          = now()
+            WHERE (places.place_name, places.category_group_code, places.category_group_name,
+                   places.category_name, places.phone, places.address_name, places.road_address_name,
+                   places.x, places.y, places.place_url)
+                  IS DISTINCT FROM
+                  (EXCLUDED.place_name, EXCLUDED.category_group_code, EXCLUDED.category_group_name,
+                   EXCLUDED.category_name, EXCLUDED.phone, EXCLUDED.address_name, EXCLUDED.road_address_name,
+                   EXCLUDED.x, EXCLUDED.y, EXCLUDED.place_url)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final PlaceSpatialCatalog catalog;
+
+    public PlaceRepositoryAdapterImpl(JdbcTemplate jdbc, PlaceSpatialCatalog catalog) {
+        this.jdbc = jdbc;
+        this.catalog = catalog;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void upsertFromKakao(List<KakaoPayload.Document> docs) {
-        OffsetDateTime now = OffsetDateTime.now();
+    /**
+     * 카카오 문서를 places에 set 기반으로 upsert 한다.
+     * 행별 find+save(2N 쿼리) 대신 청크당 INSERT ... ON CONFLICT 1문장.
+     * 호출자 트랜잭션에 참여한다(REQUIRES_NEW로 두 번째 커넥션을 잡지 않음).
+     *
+     * @return 실제로 삽입/변경된 행 수
+     */
+    @Transactional
+    public int upsertFromKakao(Collection<KakaoPayload.Document> docs) {
+        if (docs == null || docs.isEmpty()) return 0;
+
+        // 같은 문장에서 동일 external_id를 두 번 갱신하면 ON CONFLICT 오류 → id 기준 중복 제거.
+        // external_id 순으로 정렬: 충돌 행은 갱신을 건너뛰어도 잠기므로, 키워드마다 다른 카카오 응답 순서 그대로 쓰면
+        // 겹치는 장소를 동시에 upsert하는 트랜잭션끼리 교착(40P01)할 수 있다. 잠금 순서를 고정한다
+        Map<String, KakaoPayload.Document> unique = new TreeMap<>();
         for (KakaoPayload.Document d : docs) {
-            String externalId = "kakao:" + d.id();
+            if (d == null || safe(d.id()) == null) continue;
+            if (safe(d.place_name()) == null || safe(d.x()) == null || safe(d.y()) == null) continue; // NOT NULL 컬럼
+            unique.put("kakao:" + d.id(), d);
+        }
+        if (unique.isEmpty()) return 0;
 
-            Place p = placeRepository.findByExternalId(externalId).orElseGet(() ->
-                    Place.builder()
-                            .externalId(externalId)
-                            .placeName(safe(d.place_name()))
-                            .categoryGroupCode(safe(d.category_group_code()))   // ★ 추가
-                            .categoryGroupName(safe(d.category_group_name()))   // ★ 추가
-                            .categoryName(safe(d.category_name()))
-                            .phone(safe(d.phone()))
-                            .addressName(safe(d.address_name()))                // ★ 추가
-                            .roadAddressName(safe(d.road_address_name()))
-                            .x(d.x()) // 문자열 그대로
-                            .y(d.y()) // 문자열 그대로
-                            .placeUrl(safe(d.place_url()))
-                            .createdAt(now)
-                            .updatedAt(now)
-                            .build()
-            );
+        List<Map.Entry<String, KakaoPayload.Document>> rows = new ArrayList<>(unique.entrySet());
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<String, KakaoPayload.Document>> chunk =
+                    rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            written += jdbc.update(buildSql(chunk.size()), bindArgs(chunk));
+        }
+        catalog.putAll(unique.values()); // 커밋 이후 공간 카탈로그에 반영
+        return written;
+    }
 
-            // 항상 최신값으로 갱신
-            p.setPlaceName(safe(d.place_name()));
-            p.setCategoryGroupCode(safe(d.category_group_code()));   // ★ 추가
-            p.setCategoryGroupName(safe(d.category_group_name()));   // ★ 추가
-            p.setCategoryName(safe(d.category_name()));
-            p.setPhone(safe(d.phone()));
-            p.setAddressName(safe(d.address_name()));                // ★ 추가
-            p.setRoadAddressName(safe(d.road_address_name()));
-            p.setX(d.x());
-            p.setY(d.y());
-            p.setPlaceUrl(safe(d.place_url()));
-            p.setUpdatedAt(now);
+    private static String buildSql(int rowCount) {
+        StringBuilder sb = new StringBuilder(INSERT_HEAD);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sb.append(",\n");
+            sb.append(VALUES_ROW);
+        }
+        return sb.append('\n').append(ON_CONFLICT).toString();
+    }
 
-            placeRepository.save(p);
+    private static Object[] bindArgs(List<Map.Entry<String, KakaoPayload.Document>> chunk) {
+        Object[] args = new Object[chunk.size() * 11];
+        int i = 0;
+        for (Map.Entry<String, KakaoPayload.Document> e : chunk) {
+            KakaoPayload.Document d = e.getValue();
+            args[i++] = e.getKey();
+            args[i++] = safe(d.place_name());
+            args[i++] = safe(d.category_group_code());
+            args[i++] = safe(d.category_group_name());
+            args[i++] = safe(d.category_name());
+            args[i++] = safe(d.phone());
+            args[i++] = safe(d.address_name());
+            args[i++] = safe(d.road_address_name());
+            args[i++] = d.x(); // 문자열 그대로
+            args[i++] = d.y(); // 문자열 그대로
+            args[i++] = safe(d.place_url());
         }
+        return args;
     }
 
     private static String safe(String s) {
@@ -0,0 +1,295 @@
+package io.github.ssforu.pin4u.features.places.infra;
+
+import io.github.ssforu.pin4u.common.util.GeoDistance;
+import io.github.ssforu.pin4u.common.util.KoreanText;
+import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
+import io.github.ssforu.pin4u.features.places.domain.Place;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 노드 로컬 places 공간 카탈로그.
+ * - 0.01° 균일 격자, 셀 키(long) 정렬 + 원시 배열(double 좌표) 스냅샷 → "역 반경 R m 이내" 조회를 DB 없이 처리
+ * - 기동 시 전체 로드, upsert 커밋 후 델타에 반영하고 델타가 커지면 스냅샷 재구성
+ * - kakaoSearch 서킷이 열렸을 때 카카오 대신 결과를 돌려주는 대체 소스
+ */
+@Slf4j
+@Component
+public class PlaceSpatialCatalog {
+
+    private static final double CELL_DEG = 0.01;          // 위도 약 1.1km, 서울 경도 약 0.88km
+    private static final int MERGE_THRESHOLD = 1024;
+
+    private final JdbcTemplate jdbc;
+    private final PlaceRepository placeRepository;
+    private final boolean enabled;
+
+    private volatile Grid grid = Grid.EMPTY;
+    // 스냅샷 이후 upsert된 항목. 같은 external_id가 스냅샷에 있어도 델타가 우선한다.
+    private final ConcurrentHashMap<String, Entry> delta = new ConcurrentHashMap<>();
+
+    public PlaceSpatialCatalog(
+            JdbcTemplate jdbc,
+            PlaceRepository placeRepository,
+            @Value("${app.places.catalog.enabled:true}") boolean enabled
+    ) {
+        this.jdbc = jdbc;
+        this.placeRepository = placeRepository;
+        this.enabled = enabled;
+    }
+
+    private record Entry(String externalId, double lat, double lng, String searchText) {}
+
+    public record Hit(String externalId, int distanceM) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) return;
+        long started = System.currentTimeMillis();
+        // SELECT 전에 반영돼 있던 델타만 나중에 비운다. 로드 중 커밋된 upsert는 SELECT에 없을 수 있어 델타에 남긴다
+        List<Entry> applied = new ArrayList<>(delta.values());
+        List<Entry> entries = new ArrayList<>();
+        jdbc.query("""
+                SELECT external_id, place_name, category_name, x, y
+                FROM places
+                WHERE external_id IS NOT NULL
+                """, rs -> {
+            Entry e = entry(rs.getString("external_id"), rs.getString("place_name"),
+                    rs.getString("category_name"), rs.getString("x"), rs.getString("y"));
+            if (e != null) entries.add(e);
+        });
+        synchronized (this) {
+            grid = Grid.build(entries);
+            for (Entry e : applied) delta.remove(e.externalId(), e);
+        }
+        if (delta.size() >= MERGE_THRESHOLD) merge();
+        log.info("[PlaceCatalog] loaded {} places in {}ms", entries.size(), System.currentTimeMillis() - started);
+    }
+
+    public int size() {
+        return grid.size() + delta.size();
+    }
+
+    /**
+     * upsert된 카카오 문서를 반영. 트랜잭션 안이면 커밋 이후에만 반영해 롤백된 행이 섞이지 않게 한다.
+     */
+    public void putAll(Collection<KakaoPayload.Document> docs) {
+        if (!enabled || docs == null || docs.isEmpty()) return;
+        List<Entry> entries = new ArrayList<>(docs.size());
+        for (KakaoPayload.Document d : docs) {
+            if (d == null || d.id() == null) continue;
+            Entry e = entry("kakao:" + d.id(), d.place_name(), d.category_name(), d.x(), d.y());
+            if (e != null) entries.add(e);
+        }
+        if (entries.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(entries);
+                }
+            });
+        } else {
+            apply(entries);
+        }
+    }
+
+    /**
+     * 카카오 검색 대체 결과. 키워드의 모든 토큰이 장소명/카테고리에 포함된 것만, 가까운 순 size건.
+     * 나머지 필드는 places에서 external_id로 한 번에 채운다.
+     */
+    public List<KakaoPayload.Document> search(BigDecimal lat, BigDecimal lng, String query, int radiusM, int size) {
+        if (!enabled || lat == null || lng == null) return List.of();
+        String normalized = KoreanText.normalize(query);
+        String[] tokens = (normalized == null || normalized.isEmpty()) ? new String[0] : normalized.split(" ");
+
+        List<Hit> hits = within(lat.doubleValue(), lng.doubleValue(), radiusM, tokens).stream()
+                .filter(h -> h.externalId().startsWith("kakao:"))
+                .limit(size)
+                .toList();
+        if (hits.isEmpty()) return List.of();
+
+        Map<String, Place> places = new HashMap<>();
+        for (Place p : placeRepository.findByExternalIdIn(hits.stream().map(Hit::externalId).toList())) {
+            places.put(p.getExternalId(), p);
+        }
+
+        List<KakaoPayload.Document> out = new ArrayList<>(hits.size());
+        for (Hit h : hits) {
+            Place p = places.get(h.externalId());
+            if (p == null) continue;
+            out.add(new KakaoPayload.Document(
+                    h.externalId().substring("kakao:".length()),
+                    p.getPlaceName(),
+                    p.getCategoryGroupCode(),
+                    p.getCategoryGroupName(),
+                    p.getCategoryName(),
+                    p.getPhone(),
+                    p.getAddressName(),
+                    p.getRoadAddressName(),
+                    p.getX(),
+                    p.getY(),
+                    p.getPlaceUrl(),
+                    String.valueOf(h.distanceM())
+            ));
+        }
+        return out;
+    }
+
+    private List<Hit> within(double lat, double lng, int radiusM, String[] tokens) {
+        if (!enabled) return List.of();
+        Grid g = grid;
+        GeoDistance.Origin origin = GeoDistance.origin(lat, lng);
+        double dLat = radiusM / GeoDistance.METERS_PER_DEG;
+        double dLng = radiusM / Math.max(origin.metersPerDegLng(), 1e-6);
+
+        List<Hit> hits = new ArrayList<>();
+        long latFrom = cell(lat - dLat), latTo = cell(lat + dLat);
+        long lngFrom = cell(lng - dLng), lngTo = cell(lng + dLng);
+        for (long ci = latFrom; ci <= latTo; ci++) {
+            for (long cj = lngFrom; cj <= lngTo; cj++) {
+                int slot = Arrays.binarySearch(g.cellKeys, key(ci, cj));
+                if (slot < 0) continue;
+                for (int i = g.cellStart[slot]; i < g.cellStart[slot + 1]; i++) {
+                    if (!delta.isEmpty() && delta.containsKey(g.externalIds[i])) continue;
+                    if (!matches(g.searchTexts[i], tokens)) continue;
+                    if (!origin.withinRadius(g.lats[i], g.lngs[i], radiusM)) continue;
+                    hits.add(new Hit(g.externalIds[i], origin.metersTo(g.lats[i], g.lngs[i])));
+                }
+            }
+        }
+        for (Entry e : delta.values()) {
+            if (!matches(e.searchText(), tokens)) continue;
+            if (!origin.withinRadius(e.lat(), e.lng(), radiusM)) continue;
+            hits.add(new Hit(e.externalId(), origin.metersTo(e.lat(), e.lng())));
+        }
+        hits.sort(Comparator.comparingInt(Hit::distanceM));
+        return hits;
+    }
+
+    private void apply(List<Entry> entries) {
+        for (Entry e : entries) delta.put(e.externalId(), e);
+        if (delta.size() >= MERGE_THRESHOLD) merge();
+    }
+
+    /** 델타를 스냅샷에 합쳐 새 격자를 만든다. 조회는 교체 전까지 기존 스냅샷+델타를 그대로 본다. */
+    private synchronized void merge() {
+        if (delta.size() < MERGE_THRESHOLD) return;
+        Grid g = grid;
+        Map<String, Entry> merged = new LinkedHashMap<>(g.size() + delta.size());
+        for (int i = 0; i < g.size(); i++) {
+            merged.put(g.externalIds[i], new Entry(g.externalIds[i], g.lats[i], g.lngs[i], g.searchTexts[i]));
+        }
+        List<Entry> applied = new ArrayList<>(delta.values());
+        for (Entry e : applied) merged.put(e.externalId(), e);
+        grid = Grid.build(merged.values());
+        for (Entry e : applied) delta.remove(e.externalId(), e);
+    }
+
+    private static boolean matches(String searchText, String[] tokens) {
+        if (tokens == null) return true;
+        for (String t : tokens) {
+            if (!t.isEmpty() && !searchText.contains(t)) return false;
+        }
+        return true;
+    }
+
+    private static Entry entry(String externalId, String name, String category, String x, String y) {
+        if (externalId == null) return null;
+        try {
+            double lng = Double.parseDouble(x.trim());
+            double lat = Double.parseDouble(y.trim());
+            String text = KoreanText.normalize((name == null ? "" : name) + " " + (category == null ? "" : category));
+            return new Entry(externalId, lat, lng, text);
+        } catch (RuntimeException e) {
+            return null; // 좌표 누락/형식 오류 행은 카탈로그에서 제외
+        }
+    }
+
+    private static long cell(double deg) {
+        return (long) Math.floor(deg / CELL_DEG);
+    }
+
+    private static long key(long latCell, long lngCell) {
+        return (latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    /** 셀 키 순으로 정렬된 불변 스냅샷 */
+    private static final class Grid {
+        static final Grid EMPTY = build(List.of());
+
+        final long[] cellKeys;
+        final int[] cellStart;      // cellKeys[k]의 항목 범위 = [cellStart[k], cellStart[k+1])
+        final String[] externalIds;
+        final double[] lats;
+        final double[] lngs;
+        final String[] searchTexts;
+
+        private Grid(long[] cellKeys, int[] cellStart, String[] externalIds,
+                     double[] lats, double[] lngs, String[] searchTexts) {
+            this.cellKeys = cellKeys;
+            this.cellStart = cellStart;
+            this.externalIds = externalIds;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.searchTexts = searchTexts;
+        }
+
+        int size() {
+            return externalIds.length;
+        }
+
+        static Grid build(Collection<Entry> source) {
+            int n = source.size();
+            Entry[] sorted = source.toArray(new Entry[0]);
+            long[] keys = new long[n];
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = key(cell(sorted[i].lat()), cell(sorted[i].lng()));
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingLong(i -> keys[i]));
+
+            String[] ids = new String[n];
+            double[] lats = new double[n];
+            double[] lngs = new double[n];
+            String[] texts = new String[n];
+            long[] cellKeys = new long[n];
+            int[] cellStart = new int[n + 1];
+            int cells = 0;
+            for (int i = 0; i < n; i++) {
+                Entry e = sorted[order[i]];
+                ids[i] = e.externalId();
+                lats[i] = e.lat();
+                lngs[i] = e.lng();
+                texts[i] = e.searchText();
+                long k = keys[order[i]];
+                if (cells == 0 || cellKeys[cells - 1] != k) {
+                    cellKeys[cells] = k;
+                    cellStart[cells] = i;
+                    cells++;
+                }
+            }
+            cellStart[cells] = n;
+            return new Grid(Arrays.copyOf(cellKeys, cells), Arrays.copyOf(cellStart, cells + 1),
+                    ids, lats, lngs, texts);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.ssforu.pin4u.features.recommendations.api;
 
 import io.github.ssforu.pin4u.common.annotation.LoginUser;
+import io.github.ssforu.pin4u.common.idempotency.IdempotencyService;
 import io.github.ssforu.pin4u.common.response.ApiResponse;
 import io.github.ssforu.pin4u.features.recommendations.application.RecommendationService;
 import io.github.ssforu.pin4u.features.recommendations.dto.RecommendationDtos;
@@ -23,18 +24,26 @@ public class RecommendationController {
 
     private static final Logger log = LoggerFactory.getLogger(RecommendationController.class);
     private final RecommendationService service;
+    private final IdempotencyService idempotency;
 
     @Operation(
             summary = "추천 장소 제출",
-            description = "요청 슬러그에 대한 추천 장소들을 제출합니다.",
+            description = "요청 슬러그에 대한 추천 장소들을 제출합니다. Idempotency-Key 헤더가 있으면 같은 키의 재시도에 저장된 응답을 돌려줍니다.",
             security = @SecurityRequirement(name = "uidCookie")
     )
     @PostMapping
-    public ResponseEntity<ApiResponse<RecommendationDtos.SubmitResponse>> submit(
+    public ResponseEntity<?> submit(
             @LoginUser(required = true) Long me,
             @PathVariable("slug") String slug,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody RecommendationDtos.SubmitRequest body) {
 
+        return idempotency.execute("recommendations:" + slug + ":" + me, idempotencyKey, body,
+                () -> doSubmit(slug, body));
+    }
+
+    private ResponseEntity<ApiResponse<RecommendationDtos.SubmitResponse>> doSubmit(
+            String slug, RecommendationDtos.SubmitRequest body) {
         try {
             if (body == null || body.getItems() == null || body.getItems().isEmpty()) {
                 return ResponseEntity.badRequest().body(
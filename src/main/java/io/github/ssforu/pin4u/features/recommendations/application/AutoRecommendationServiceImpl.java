@@ -2,6 +2,10 @@ package io.github.ssforu.pin4u.features.recommendations.application;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.ssforu.pin4u.common.util.GeoDistance;
+import io.github.ssforu.pin4u.common.util.SingleFlight;
 import io.github.ssforu.pin4u.features.places.application.PlaceSearchService;
 import io.github.ssforu.pin4u.features.places.dto.PlaceDtos;
 import io.github.ssforu.pin4u.features.requests.application.AiSummaryService;
@@ -14,44 +18,104 @@ import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.RequestDet
 import io.github.ssforu.pin4u.features.requests.infra.RequestDetailQueryRepository;
 import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceNotesQueryRepository;
 import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
-import io.github.ssforu.pin4u.features.stations.domain.Station;
-import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
-import java.math.BigDecimal;
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+@Slf4j
 @Service
-@Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class AutoRecommendationServiceImpl implements AutoRecommendationService {
 
     private static final int POOL_LIMIT = 10;
+    private static final String DEFAULT_QUERY = "카페";
 
     private final RequestRepository requestRepository;
-    private final StationRepository stationRepository;
+    private final StationRegistry stationRegistry;
     private final RequestPlaceNotesQueryRepository notesQueryRepository;
     private final RequestDetailQueryRepository detailQueryRepository;
 
     private final PlaceSearchService placeSearchService;
     private final AiSummaryService aiSummaryService;
     private final AiKeywordService aiKeywordService;
+    private final SingleFlight<String, Optional<String>> aiSummaryFlight;
     private final ObjectMapper objectMapper;
+    private final Executor summaryExecutor;
+    private final int searchConcurrency;
+    private final Duration summaryDeadline;
+    // 끝난 요약(기한을 넘겨 늦게 끝난 것 포함). 키 = external_id + 입력 지문(AiSummaryService.inputKey):
+    // user_tags가 요청마다 달라 다른 요청의 요약/evidence와 섞이지 않게 한다. 같은 입력이면 OpenAI를 다시 부르지 않는다
+    private final Cache<String, String> summaryCache;
 
+    public AutoRecommendationServiceImpl(
+            RequestRepository requestRepository,
+            StationRegistry stationRegistry,
+            RequestPlaceNotesQueryRepository notesQueryRepository,
+            RequestDetailQueryRepository detailQueryRepository,
+            PlaceSearchService placeSearchService,
+            AiSummaryService aiSummaryService,
+            AiKeywordService aiKeywordService,
+            SingleFlight<String, Optional<String>> aiSummaryFlight,
+            ObjectMapper objectMapper,
+            @Qualifier("autoSummaryExecutor") Executor summaryExecutor,
+            @Value("${app.recommendations.auto.search-concurrency:4}") int searchConcurrency,
+            @Value("${app.recommendations.auto.summary-deadline:5s}") Duration summaryDeadline,
+            @Value("${app.recommendations.auto.summary-cache-ttl:1h}") Duration summaryCacheTtl
+    ) {
+        this.requestRepository = requestRepository;
+        this.stationRegistry = stationRegistry;
+        this.notesQueryRepository = notesQueryRepository;
+        this.detailQueryRepository = detailQueryRepository;
+        this.placeSearchService = placeSearchService;
+        this.aiSummaryService = aiSummaryService;
+        this.aiKeywordService = aiKeywordService;
+        this.aiSummaryFlight = aiSummaryFlight;
+        this.objectMapper = objectMapper;
+        this.summaryExecutor = summaryExecutor;
+        this.searchConcurrency = Math.max(1, searchConcurrency);
+        this.summaryDeadline = summaryDeadline;
+        this.summaryCache = Caffeine.newBuilder()
+                .maximumSize(2_000)
+                .expireAfterWrite(summaryCacheTtl)
+                .build();
+    }
+
+    // 서비스 레벨 트랜잭션 없음: 외부 호출(OpenAI/카카오) 동안 DB 커넥션을 잡지 않도록
+    // 조회는 각 리포지토리의 readOnly 트랜잭션으로 짧게 끝낸다.
     @Override
     public RequestDetailResponse recommend(String slug, Integer n, String qIgnored) {
         final int topN = clampN(n);
 
         Request req = requestRepository.findBySlug(slug)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "request not found"));
-        Station st = stationRepository.findByCode(req.getStationCode())
+        StationRegistry.Entry st = stationRegistry.find(req.getStationCode())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "station not found"));
 
+        // 키워드 추출(OpenAI)은 먼저 띄워 두고, 그동안 기존 항목 조회 + 카테고리 키워드 검색을 진행
+        Mono<List<String>> messageKeywords = Mono.fromCallable(() -> extractKeywords(req.getRequestMessage()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[auto] keyword extraction failed: {}", e.toString());
+                    return Mono.just(List.of());
+                })
+                .cache();
+        messageKeywords.subscribe();
+
         List<RequestDetailQueryRepository.Row> existing = detailQueryRepository.findItemsBySlug(slug, 100);
         Set<String> excludeExternalIds = existing.stream()
                 .map(RequestDetailQueryRepository.Row::getExternal_id)
@@ -65,31 +129,9 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
                 .filter(s -> s != null && !s.isBlank())
                 .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        LinkedHashSet<String> messageKeywords = new LinkedHashSet<>();
-        List<String> extracted = aiKeywordService.extractTop2(req.getRequestMessage());
-        if (extracted != null) {
-            for (String kw : extracted) {
-                if (kw != null && !kw.isBlank()) messageKeywords.add(kw.trim());
-            }
-        }
-
-        LinkedHashSet<String> queries = new LinkedHashSet<>();
-        queries.addAll(categoryKeywords);
-        queries.addAll(messageKeywords);
-        if (queries.isEmpty()) queries.add("카페");
-
-        LinkedHashMap<String, PlaceDtos.Item> pool = new LinkedHashMap<>();
-        for (String kw : queries) {
-            PlaceDtos.SearchResponse resp = placeSearchService.search(st.getCode(), kw);
-            if (resp == null || resp.items() == null) continue;
-            for (PlaceDtos.Item it : resp.items()) {
-                if (!pool.containsKey(it.external_id())) pool.put(it.external_id(), it);
-                if (pool.size() >= POOL_LIMIT) break;
-            }
-            if (pool.size() >= POOL_LIMIT) break;
-        }
+        List<PlaceDtos.Item> pool = searchPool(st.code(), categoryKeywords, messageKeywords);
 
-        List<PlaceDtos.Item> candidates = pool.values().stream()
+        List<PlaceDtos.Item> candidates = pool.stream()
                 .filter(it -> !excludeExternalIds.contains(it.external_id()))
                 .toList();
 
@@ -97,8 +139,8 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
             return new RequestDetailResponse(
                     req.getSlug(),
                     new RequestDetailDtos.Station(
-                            st.getCode(), st.getName(), st.getLine(),
-                            toBigDecimal(st.getLat()), toBigDecimal(st.getLng())
+                            st.code(), st.name(), st.line(),
+                            st.lat(), st.lng()
                     ),
                     req.getRequestMessage(),
                     List.of(),
@@ -111,6 +153,9 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
         String[] pickedExtIds = picked.stream().map(PlaceDtos.Item::external_id).toArray(String[]::new);
         Map<String, List<String>> userTagsMap = fetchUserTags(slug, pickedExtIds);
 
+        Map<String, Optional<String>> summaries = summarize(picked, userTagsMap);
+
+        GeoDistance.Origin origin = st.origin();
         List<Item> items = new ArrayList<>(picked.size());
         for (PlaceDtos.Item c : picked) {
             Mock mock = null;
@@ -125,16 +170,10 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
             List<String> reviewSnippets = (c.mock() != null) ? c.mock().review_snippets() : null;
             List<String> userTags = userTagsMap.get(c.external_id());
 
-            Optional<String> summaryOpt = aiSummaryService.generateSummary(
-                    c.place_name(),
-                    c.category_name(),
-                    (c.mock() != null) ? c.mock().rating() : null,
-                    (c.mock() != null) ? c.mock().rating_count() : null,
-                    reviewSnippets,
-                    userTags
-            );
-
-            Ai ai = summaryOpt
+            // 기한 안에 끝나지 않은 요약은 키가 없음 → PENDING(늦게 끝나면 캐시에 남아 다음 요청에서 READY)
+            // 끝났지만 비어 있으면(실패/폴백) → UNAVAILABLE
+            Optional<String> summary = summaries.get(c.external_id());
+            Ai ai = Optional.ofNullable(summary).flatMap(x -> x)
                     .map(txt -> new Ai(
                             txt,
                             toJson(buildEvidence(
@@ -148,11 +187,7 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
 
             Integer dist = c.distance_m();
             if (dist == null) {
-                double d = haversineMeters(
-                        toDouble(toBigDecimal(st.getLat())), toDouble(toBigDecimal(st.getLng())),
-                        toDouble(c.y()), toDouble(c.x())
-                );
-                dist = (int) Math.round(d);
+                dist = origin.metersTo(toDouble(c.y()), toDouble(c.x()));
             }
 
             Item it = new Item(
@@ -170,7 +205,9 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
                     c.place_url(),
                     mock,
                     ai,
-                    ai != null ? RequestDetailDtos.SummaryStatus.READY : RequestDetailDtos.SummaryStatus.PENDING,
+                    ai != null ? RequestDetailDtos.SummaryStatus.READY
+                            : summary == null ? RequestDetailDtos.SummaryStatus.PENDING
+                            : RequestDetailDtos.SummaryStatus.UNAVAILABLE,
                     null
             );
             items.add(it);
@@ -179,8 +216,8 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
         return new RequestDetailResponse(
                 req.getSlug(),
                 new RequestDetailDtos.Station(
-                        st.getCode(), st.getName(), st.getLine(),
-                        toBigDecimal(st.getLat()), toBigDecimal(st.getLng())
+                        st.code(), st.name(), st.line(),
+                        st.lat(), st.lng()
                 ),
                 req.getRequestMessage(),
                 items,
@@ -188,6 +225,97 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
         );
     }
 
+    /**
+     * 키워드 검색 팬아웃. 카테고리 키워드 → 메시지 키워드 순서로 searchConcurrency개까지 동시에 검색하되
+     * 결과는 키워드 순서대로 합쳐(flatMapSequential) 순차 버전과 같은 풀을 만든다.
+     * 풀이 POOL_LIMIT에 차면 take가 남은 검색을 취소한다.
+     */
+    private List<PlaceDtos.Item> searchPool(String stationCode, Collection<String> categoryKeywords,
+                                            Mono<List<String>> messageKeywords) {
+        Set<String> seen = new HashSet<>();
+        List<PlaceDtos.Item> pool = Flux.concat(
+                        Flux.fromIterable(categoryKeywords),
+                        messageKeywords.flatMapMany(Flux::fromIterable))
+                .distinct()
+                .switchIfEmpty(Flux.just(DEFAULT_QUERY))
+                .flatMapSequential(kw -> placeSearchService.searchReactive(stationCode, kw, null)
+                        .onErrorResume(e -> {
+                            log.warn("[auto] search failed kw='{}': {}", kw, e.toString());
+                            return Mono.empty();
+                        }), searchConcurrency)
+                .concatMapIterable(resp -> resp.items() == null ? List.<PlaceDtos.Item>of() : resp.items())
+                .filter(it -> seen.add(it.external_id()))
+                .take(POOL_LIMIT)
+                .collectList()
+                .block();
+        return (pool == null) ? List.of() : pool;
+    }
+
+    private List<String> extractKeywords(String message) {
+        List<String> out = new ArrayList<>(2);
+        List<String> extracted = aiKeywordService.extractTop2(message);
+        if (extracted != null) {
+            for (String kw : extracted) {
+                if (kw != null && !kw.isBlank()) out.add(kw.trim());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 선택된 장소 요약을 autoSummaryExecutor에서 동시에 생성하고 summaryDeadline까지만 기다린다.
+     * 동시 호출 수는 openai 벌크헤드가 제한하고(초과분은 폴백 → 빈 값), 같은 장소·같은 입력의 요약이 진행 중이면 single-flight로 공유한다.
+     * 풀이 차서 거절된 제출은 요청 스레드에서 돌리지 않고 실패(→ UNAVAILABLE)로 끝난다(SingleFlight.submit이 예외를 future로 돌려준다).
+     * 기한을 넘긴 호출은 취소하지 않는다(공유 future, 다른 호출자가 결과를 쓸 수 있음). 늦게 끝난 결과는 summaryCache에 남는다.
+     * 반환 맵: 끝난 장소만 담는다(값이 비어 있으면 실패/폴백). 기한 안에 끝나지 않은 장소는 키가 없다.
+     */
+    private Map<String, Optional<String>> summarize(List<PlaceDtos.Item> picked, Map<String, List<String>> userTagsMap) {
+        Map<String, CompletableFuture<Optional<String>>> futures = new LinkedHashMap<>();
+        for (PlaceDtos.Item c : picked) {
+            List<String> reviewSnippets = (c.mock() != null) ? c.mock().review_snippets() : null;
+            List<String> userTags = userTagsMap.get(c.external_id());
+            Double rating = (c.mock() != null) ? c.mock().rating() : null;
+            Integer ratingCount = (c.mock() != null) ? c.mock().rating_count() : null;
+            String key = AiSummaryService.inputKey(c.external_id(),
+                    c.place_name(), c.category_name(), rating, ratingCount, reviewSnippets, userTags);
+            String cached = summaryCache.getIfPresent(key);
+            if (cached != null) {
+                futures.put(c.external_id(), CompletableFuture.completedFuture(Optional.of(cached)));
+                continue;
+            }
+            CompletableFuture<Optional<String>> f = aiSummaryFlight.submit(key, () -> CompletableFuture.supplyAsync(
+                    () -> aiSummaryService.generateSummary(
+                            c.place_name(),
+                            c.category_name(),
+                            rating,
+                            ratingCount,
+                            reviewSnippets,
+                            userTags),
+                    summaryExecutor));
+            f.thenAccept(txt -> txt.ifPresent(t -> summaryCache.put(key, t)));
+            futures.put(c.external_id(), f);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(summaryDeadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.info("[auto] summary deadline {} exceeded; returning PENDING for unfinished places", summaryDeadline);
+        } catch (ExecutionException e) {
+            // 개별 실패는 아래에서 빈 값으로 처리
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<String, Optional<String>> out = new HashMap<>();
+        futures.forEach((extId, f) -> {
+            if (!f.isDone()) return;
+            boolean ok = !f.isCompletedExceptionally() && !f.isCancelled();
+            out.put(extId, ok ? f.join() : Optional.empty());
+        });
+        return out;
+    }
+
     private int clampN(Integer n) {
         if (n == null) return 1;
         return Math.min(Math.max(n, 1), 5);
@@ -245,23 +373,6 @@ public class AutoRecommendationServiceImpl implements AutoRecommendationService
         if (s == null || s.isBlank()) return 0.0;
         try { return Double.parseDouble(s); } catch (Exception ignore) { return 0.0; }
     }
-    private double toDouble(BigDecimal bd) { return (bd == null) ? 0.0 : bd.doubleValue(); }
-
-    private BigDecimal toBigDecimal(Object v) {
-        if (v == null) return null;
-        if (v instanceof BigDecimal bd) return bd;
-        return new BigDecimal(v.toString());
-    }
-
-    private double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
-        double R = 6371000.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lng2 - lng1);
-        double a = Math.pow(Math.sin(dLat/2),2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLon/2),2);
-        double c = 2 * Math.asin(Math.sqrt(a));
-        return R * c;
-    }
 
     private String toJson(Object v) {
         try { return objectMapper.writeValueAsString(v); }
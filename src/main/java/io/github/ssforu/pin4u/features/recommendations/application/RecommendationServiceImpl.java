@@ -1,22 +1,23 @@
 package io.github.ssforu.pin4u.features.recommendations.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ssforu.pin4u.common.util.GeoDistance;
+import io.github.ssforu.pin4u.features.places.application.PlaceMaterializer;
 import io.github.ssforu.pin4u.features.places.domain.Place;
-import io.github.ssforu.pin4u.features.places.infra.PlaceRepository;
-import io.github.ssforu.pin4u.features.recommendations.domain.RecommendationNote;
 import io.github.ssforu.pin4u.features.recommendations.dto.RecommendationDtos;
-import io.github.ssforu.pin4u.features.recommendations.infra.RecommendationNoteRepository;
+import io.github.ssforu.pin4u.features.recommendations.infra.RecommendationBatchRepository;
 import io.github.ssforu.pin4u.features.requests.domain.Request;
 import io.github.ssforu.pin4u.features.requests.domain.RequestPlaceAggregate;
+import io.github.ssforu.pin4u.features.requests.event.PlaceRecommendedEvent;
+import io.github.ssforu.pin4u.features.requests.event.RequestChangedEvent;
 import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceAggregateRepository;
 import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
-import io.github.ssforu.pin4u.features.stations.domain.Station;
-import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
-import java.math.BigDecimal;
-import java.time.OffsetDateTime;
+import io.github.ssforu.pin4u.features.requests.infra.RequestTotalRepository;
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
 import java.util.*;
-import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,29 +29,53 @@ public class RecommendationServiceImpl implements RecommendationService {
     );
 
     private final RequestRepository requestRepository;
-    private final StationRepository stationRepository;
-    private final PlaceRepository placeRepository;
+    private final StationRegistry stationRegistry;
+    private final PlaceMaterializer placeMaterializer;
     private final RequestPlaceAggregateRepository aggregateRepository;
-    private final RecommendationNoteRepository noteRepository;
+    private final RecommendationBatchRepository batchRepository;
+    private final RecommendedCountCoalescer coalescer;
+    private final RequestTotalRepository totalRepository;
     private final ObjectMapper om;
+    private final ApplicationEventPublisher eventPublisher;
     private final int stationRadiusM;
+    private final boolean batchSubmit;
+
+    /** 검증·매칭·반경 검사를 통과한 항목 */
+    private record Accepted(Place place, Integer distM, String nickname, String message, String imageUrl,
+                            boolean imageIsPublic, List<String> tags, UUID guestId) {}
+
+    /** deferred: 카운트/합계 증가를 coalescer로 넘겼는지 */
+    /** createdPlaces: 이번 제출로 집계행이 실제로 생성된 place_id */
+    private record Outcome(int saved, int conflicts, Set<Long> createdPlaces, boolean deferred) {
+        int newPlaces() {
+            return createdPlaces.size();
+        }
+    }
 
     public RecommendationServiceImpl(
             RequestRepository requestRepository,
-            StationRepository stationRepository,
-            PlaceRepository placeRepository,
+            StationRegistry stationRegistry,
+            PlaceMaterializer placeMaterializer,
             RequestPlaceAggregateRepository aggregateRepository,
-            RecommendationNoteRepository noteRepository,
+            RecommendationBatchRepository batchRepository,
+            RecommendedCountCoalescer coalescer,
+            RequestTotalRepository totalRepository,
             ObjectMapper om,
-            @Value("${app.search.stationRadiusM:1500}") int stationRadiusM
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.search.stationRadiusM:1500}") int stationRadiusM,
+            @Value("${app.recommendations.submit.batch:true}") boolean batchSubmit
     ) {
         this.requestRepository = requestRepository;
-        this.stationRepository = stationRepository;
-        this.placeRepository = placeRepository;
+        this.stationRegistry = stationRegistry;
+        this.placeMaterializer = placeMaterializer;
         this.aggregateRepository = aggregateRepository;
-        this.noteRepository = noteRepository;
+        this.batchRepository = batchRepository;
+        this.coalescer = coalescer;
+        this.totalRepository = totalRepository;
         this.om = om;
+        this.eventPublisher = eventPublisher;
         this.stationRadiusM = stationRadiusM;
+        this.batchSubmit = batchSubmit;
     }
 
     @Override
@@ -60,10 +85,10 @@ public class RecommendationServiceImpl implements RecommendationService {
         Request request = requestRepository.findBySlug(slug)
                 .orElseThrow(() -> new NoSuchElementException("request_not_found"));
 
-        Station st = stationRepository.findByCode(request.getStationCode())
+        StationRegistry.Entry st = stationRegistry.find(request.getStationCode())
                 .orElseThrow(() -> new NoSuchElementException("station_not_found"));
-        BigDecimal lat = st.getLat();
-        BigDecimal lng = st.getLng();
+        // 역 기준점: 레지스트리에 cos(위도)까지 미리 계산돼 있어 항목마다 재사용
+        GeoDistance.Origin origin = st.origin();
 
         if (req == null || req.getItems() == null || req.getItems().isEmpty()) {
             return emptyResponse();
@@ -80,12 +105,12 @@ public class RecommendationServiceImpl implements RecommendationService {
             }
         }
 
-        // 2) 확장된 후보로 일괄 조회 (키 → Place 맵)
-        Map<String, Place> placeByExt = placeRepository.findByExternalIdIn(new ArrayList<>(expandedExtIds)).stream()
-                .collect(Collectors.toMap(Place::getExternalId, p -> p, (a, b) -> a));
+        // 2) 확장된 후보로 일괄 조회 (키 → Place 맵). write-free 검색 결과는 여기서 places로 승격된다.
+        Map<String, Place> placeByExt = placeMaterializer.findOrMaterialize(expandedExtIds);
 
         RecommendationDtos.SubmitResponse out = new RecommendationDtos.SubmitResponse();
-        int saved = 0, conflicts = 0, outOfRadius = 0, notFound = 0, invalid = 0;
+        int outOfRadius = 0, notFound = 0, invalid = 0;
+        List<Accepted> accepted = new ArrayList<>(req.getItems().size());
 
         for (RecommendationDtos.SubmitItem it : req.getItems()) {
             String externalId = safeTrim(it.getExternalId());
@@ -145,13 +170,137 @@ public class RecommendationServiceImpl implements RecommendationService {
                 continue;
             }
 
-            Integer distM = safeDistanceM(lat, lng, place.getY(), place.getX());
+            Integer distM = safeDistanceM(origin, place.getY(), place.getX());
             if (distM == null || distM > stationRadiusM) {
                 out.getOutOfRadius().add(new RecommendationDtos.OutOfRadiusItem(place.getExternalId(), distM));
                 outOfRadius++;
                 continue;
             }
 
+            boolean imageIsPublic = (it.getImageIsPublic() == null) ? true : it.getImageIsPublic();
+            accepted.add(new Accepted(place, distM, nickname, msg, img, imageIsPublic, tags, guestUuid));
+        }
+
+        // 5) 저장: 기본은 set 기반 일괄(문장 3개), app.recommendations.submit.batch=false면 항목별
+        Outcome result = batchSubmit ? persistBatch(slug, accepted, out) : persistPerItem(slug, accepted, out);
+        int saved = result.saved();
+        int conflicts = result.conflicts();
+        int newPlaces = result.newPlaces();
+
+        Map<String, Integer> totals = out.getTotals();
+        totals.put("saved", saved);
+        totals.put("conflicts", conflicts);
+        totals.put("out_of_radius", outOfRadius);
+        totals.put("not_found", notFound);
+        totals.put("invalid", invalid);
+
+        // request_totals: 항목마다가 아니라 제출 1건당 upsert 1회(같은 트랜잭션). 합치기 모드면 coalescer가 반영
+        if (!result.deferred() && (saved > 0 || newPlaces > 0)) {
+            totalRepository.increment(slug, saved, newPlaces);
+        }
+        if (saved > 0) {
+            eventPublisher.publishEvent(new RequestChangedEvent(slug));
+            eventPublisher.publishEvent(placeRecommended(slug, accepted, out, result.createdPlaces()));
+        }
+        return out;
+    }
+
+    /**
+     * 저장된 장소별 증가 후 카운트(같은 장소가 여러 번이면 최댓값) → 순위 보드/SSE 증분 갱신용.
+     * 이번 제출이 집계행을 만든 장소만 새로 추천된 장소로 본다(합치기 모드에서는 응답 카운트가 근사치라 카운트로 판정하지 않음).
+     */
+    private static PlaceRecommendedEvent placeRecommended(String slug, List<Accepted> accepted,
+                                                          RecommendationDtos.SubmitResponse out,
+                                                          Set<Long> createdPlaces) {
+        Map<String, Accepted> byExt = new HashMap<>();
+        for (Accepted a : accepted) byExt.putIfAbsent(a.place().getExternalId(), a);
+
+        Map<String, Integer> maxByExt = new LinkedHashMap<>();
+        for (RecommendationDtos.SavedItem s : out.getSaved()) {
+            maxByExt.merge(s.getExternalId(), s.getRecommendedCount(), Math::max);
+        }
+        List<PlaceRecommendedEvent.Place> places = new ArrayList<>(maxByExt.size());
+        for (Map.Entry<String, Integer> e : maxByExt.entrySet()) {
+            Accepted a = byExt.get(e.getKey());
+            places.add(new PlaceRecommendedEvent.Place(
+                    e.getKey(), a.place().getPlaceName(), a.distM(), e.getValue(), createdPlaces.contains(a.place().getId())));
+        }
+        return new PlaceRecommendedEvent(slug, List.copyOf(places));
+    }
+
+    /**
+     * 일괄 경로: 집계행 INSERT ON CONFLICT 1회 → 노트 INSERT ON CONFLICT (rpa_id, guest_id) 1회
+     * → 카운트 UPDATE ... FROM (VALUES) 1회. 응답 목록 순서는 제출 순서 그대로.
+     */
+    private Outcome persistBatch(String slug, List<Accepted> accepted, RecommendationDtos.SubmitResponse out) {
+        if (accepted.isEmpty()) return new Outcome(0, 0, Set.of(), false);
+
+        Map<Long, Integer> distanceByPlace = new LinkedHashMap<>();
+        for (Accepted a : accepted) distanceByPlace.putIfAbsent(a.place().getId(), a.distM());
+        RecommendationBatchRepository.Aggregates aggs = batchRepository.ensureAggregates(slug, distanceByPlace);
+
+        List<RecommendationBatchRepository.NoteRow> rows = new ArrayList<>(accepted.size());
+        for (Accepted a : accepted) {
+            rows.add(new RecommendationBatchRepository.NoteRow(
+                    aggs.idByPlace().get(a.place().getId()),
+                    a.nickname(), a.message(), a.imageUrl(), a.imageIsPublic(),
+                    toJson(a.tags()), a.guestId()));
+        }
+        Set<RecommendationBatchRepository.NoteKey> inserted = batchRepository.insertNotes(rows);
+
+        // 같은 문장 안의 중복 (rpa, guest)는 먼저 나온 항목만 저장으로 본다
+        Map<Long, Integer> deltaByRpa = new TreeMap<>();
+        boolean[] savedFlags = new boolean[accepted.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            var key = new RecommendationBatchRepository.NoteKey(rows.get(i).rpaId(), rows.get(i).guestId());
+            if (inserted.remove(key)) {
+                savedFlags[i] = true;
+                deltaByRpa.merge(key.rpaId(), 1, Integer::sum);
+            }
+        }
+
+        // 합치기 모드: 집계행 UPDATE 없이 커밋 후 LongAdder에 적재(응답 카운트는 읽은 값 + 미반영분 기준 근사치)
+        boolean deferred = coalescer.enabled();
+        Map<Long, Integer> countByRpa = new HashMap<>();
+        if (deferred) {
+            for (Map.Entry<Long, Integer> e : deltaByRpa.entrySet()) {
+                long pending = coalescer.pending(e.getKey());
+                countByRpa.put(e.getKey(),
+                        (int) (aggs.countById().getOrDefault(e.getKey(), 0) + pending + e.getValue()));
+            }
+        } else {
+            countByRpa = batchRepository.incrementCounts(deltaByRpa);
+        }
+
+        // 항목별 recommended_count는 항목별 경로와 같게: 같은 집계행의 n번째 저장 = 증가 전 값 + n
+        Map<Long, Integer> seen = new HashMap<>();
+        int saved = 0, conflicts = 0;
+        for (int i = 0; i < accepted.size(); i++) {
+            String externalId = accepted.get(i).place().getExternalId();
+            if (!savedFlags[i]) {
+                out.getConflicts().add(new RecommendationDtos.SimpleItem(externalId));
+                conflicts++;
+                continue;
+            }
+            long rpaId = rows.get(i).rpaId();
+            int before = countByRpa.getOrDefault(rpaId, 0) - deltaByRpa.get(rpaId);
+            int nth = seen.merge(rpaId, 1, Integer::sum);
+            out.getSaved().add(new RecommendationDtos.SavedItem(externalId, before + nth));
+            saved++;
+        }
+        if (deferred) coalescer.add(slug, deltaByRpa, saved, aggs.created());
+        return new Outcome(saved, conflicts, aggs.createdPlaces(), deferred);
+    }
+
+    /**
+     * 항목별 경로: 항목마다 조회/INSERT/중복 검사/노트 저장/원자적 증가/재조회.
+     * 중복 검사는 따로 하지 않고 노트 INSERT의 ON CONFLICT (rpa_id, guest_id)가 판정한다(0행이면 충돌).
+     */
+    private Outcome persistPerItem(String slug, List<Accepted> accepted, RecommendationDtos.SubmitResponse out) {
+        int saved = 0, conflicts = 0;
+        Set<Long> createdPlaces = new HashSet<>();
+        for (Accepted a : accepted) {
+            Place place = a.place();
             Long placeId = place.getId();
 
             // 집계행 upsert: 없으면 INSERT, 있으면 원자적 UPDATE
@@ -161,16 +310,21 @@ public class RecommendationServiceImpl implements RecommendationService {
                     .orElse(null);
 
             if (agg == null) {
-                agg = new RequestPlaceAggregate(slug, placeId);
+                agg = new RequestPlaceAggregate(slug, placeId, a.distM()); // 역 기준 거리는 생성 시 한 번만 기록
                 try {
                     agg = aggregateRepository.save(agg);
+                    createdPlaces.add(placeId);
                 } catch (org.springframework.dao.DataIntegrityViolationException e) {
                     // 동시 INSERT 경합 — 이미 생성된 행 재조회
                     agg = aggregateRepository.findByRequestIdAndPlaceId(slug, placeId).orElseThrow();
                 }
             }
 
-            if (noteRepository.existsByRpaIdAndGuestId(agg.getId(), guestUuid)) {
+            // 같은 게스트가 이미 추천했으면(다른 요청/인스턴스 포함) 0행 → 충돌
+            var noteRow = new RecommendationBatchRepository.NoteRow(
+                    agg.getId(), a.nickname(), a.message(), a.imageUrl(), a.imageIsPublic(),
+                    toJson(a.tags()), a.guestId());
+            if (batchRepository.insertNotes(List.of(noteRow)).isEmpty()) {
                 out.getConflicts().add(new RecommendationDtos.SimpleItem(place.getExternalId()));
                 conflicts++;
                 continue;
@@ -182,32 +336,19 @@ public class RecommendationServiceImpl implements RecommendationService {
             // 후속 로직에서 최신 상태가 필요하므로 재조회
             agg = aggregateRepository.findByRequestIdAndPlaceId(slug, placeId).orElseThrow();
 
-            boolean imageIsPublic = (it.getImageIsPublic() == null) ? true : it.getImageIsPublic();
-
-            RecommendationNote note = new RecommendationNote(
-                    agg.getId(),
-                    nickname,
-                    msg,
-                    img,
-                    imageIsPublic,
-                    tags,
-                    guestUuid,
-                    OffsetDateTime.now()
-            );
-            noteRepository.save(note);
-
             out.getSaved().add(new RecommendationDtos.SavedItem(place.getExternalId(), agg.getRecommendedCount()));
             saved++;
         }
+        return new Outcome(saved, conflicts, createdPlaces, false);
+    }
 
-        Map<String, Integer> totals = out.getTotals();
-        totals.put("saved", saved);
-        totals.put("conflicts", conflicts);
-        totals.put("out_of_radius", outOfRadius);
-        totals.put("not_found", notFound);
-        totals.put("invalid", invalid);
-
-        return out;
+    private String toJson(List<String> tags) {
+        if (tags == null) return null;
+        try {
+            return om.writeValueAsString(tags);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("tags serialization failed", e);
+        }
     }
 
     private RecommendationDtos.SubmitResponse emptyResponse() {
@@ -279,26 +420,11 @@ public class RecommendationServiceImpl implements RecommendationService {
         }
     }
 
-    private Integer safeDistanceM(BigDecimal lat, BigDecimal lng, Object placeY, Object placeX) {
-        try {
-            Double y = parseCoord(placeY);
-            Double x = parseCoord(placeX);
-            if (y == null || x == null) return null;
-            return haversineM(lat.doubleValue(), lng.doubleValue(), y, x);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private int haversineM(double lat1, double lng1, double lat2, double lng2) {
-        final double R = 6371000.0;
-        double φ1 = Math.toRadians(lat1);
-        double φ2 = Math.toRadians(lat2);
-        double dφ = Math.toRadians(lat2 - lat1);
-        double dλ = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(dφ/2) * Math.sin(dφ/2)
-                + Math.cos(φ1) * Math.cos(φ2) * Math.sin(dλ/2) * Math.sin(dλ/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return (int) Math.round(R * c);
+    private Integer safeDistanceM(GeoDistance.Origin origin, Object placeY, Object placeX) {
+        if (origin == null) return null;
+        Double y = parseCoord(placeY);
+        Double x = parseCoord(placeX);
+        if (y == null || x == null) return null;
+        return origin.metersTo(y, x);
     }
 }
@@ -0,0 +1,143 @@
+package io.github.ssforu.pin4u.features.recommendations.application;
+
+import io.github.ssforu.pin4u.features.recommendations.infra.RecommendationBatchRepository;
+import io.github.ssforu.pin4u.features.requests.event.RequestChangedEvent;
+import io.github.ssforu.pin4u.features.requests.infra.RequestTotalRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 핫 로우 쓰기 합치기(app.recommendations.coalesce.enabled=true 일 때만 사용).
+ * 제출 트랜잭션은 노트 INSERT만 하고 recommended_count / request_totals 증가분은 커밋 후 LongAdder에 쌓는다.
+ * 주기적으로 집계행별 합계를 UPDATE ... FROM (VALUES) 한 문장으로 반영하므로
+ * 바이럴 요청에서도 제출끼리 같은 행 잠금을 기다리지 않는다.
+ * 내구성은 노트 행이 담당한다: 반영 전에 프로세스가 죽으면 RecommendedCountReconcileJob이 노트 수로 복구한다.
+ */
+@Slf4j
+@Component
+public class RecommendedCountCoalescer {
+
+    private record SlugKey(String slug, boolean places) {}
+
+    private final ConcurrentHashMap<Long, LongAdder> countDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SlugKey, LongAdder> totalDeltas = new ConcurrentHashMap<>();
+    // 직전 주기에 맵에서 뺀 adder. 빼는 순간 참조를 쥔 add가 늦게 더한 값을 다음 주기에 한 번 더 거둔다
+    private final List<Map.Entry<Long, LongAdder>> retiredCounts = new ArrayList<>();
+    private final List<Map.Entry<SlugKey, LongAdder>> retiredTotals = new ArrayList<>();
+
+    private final RecommendationBatchRepository batchRepository;
+    private final RequestTotalRepository totalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+
+    public RecommendedCountCoalescer(
+            RecommendationBatchRepository batchRepository,
+            RequestTotalRepository totalRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.recommendations.coalesce.enabled:false}") boolean enabled
+    ) {
+        this.batchRepository = batchRepository;
+        this.totalRepository = totalRepository;
+        this.eventPublisher = eventPublisher;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** 아직 DB에 반영되지 않은 증가분(응답의 recommended_count 보정용) */
+    public long pending(long rpaId) {
+        LongAdder a = countDeltas.get(rpaId);
+        return (a == null) ? 0 : a.sum();
+    }
+
+    /**
+     * 제출 1건의 증가분을 적재. 트랜잭션 안이면 커밋 이후에만 쌓아 롤백된 노트가 세어지지 않게 한다.
+     */
+    public void add(String slug, Map<Long, Integer> deltaByRpa, int saved, int newPlaces) {
+        Runnable apply = () -> {
+            deltaByRpa.forEach((rpaId, n) -> countDeltas.computeIfAbsent(rpaId, k -> new LongAdder()).add(n));
+            if (saved > 0) totalDeltas.computeIfAbsent(new SlugKey(slug, false), k -> new LongAdder()).add(saved);
+            if (newPlaces > 0) totalDeltas.computeIfAbsent(new SlugKey(slug, true), k -> new LongAdder()).add(newPlaces);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.recommendations.coalesce.flush-interval:500ms}")
+    public synchronized void flush() {
+        if (countDeltas.isEmpty() && totalDeltas.isEmpty() && retiredCounts.isEmpty() && retiredTotals.isEmpty()) return;
+
+        // 잠금 순서를 고정하려고 id 순으로 정렬
+        Map<Long, Integer> counts = drain(countDeltas, retiredCounts, new TreeMap<>());
+        Map<SlugKey, Integer> totals = drain(totalDeltas, retiredTotals, new HashMap<>());
+        if (counts.isEmpty() && totals.isEmpty()) return;
+
+        try {
+            tx.executeWithoutResult(s -> {
+                batchRepository.incrementCounts(counts);
+                Map<String, int[]> bySlug = new TreeMap<>();
+                totals.forEach((k, n) -> bySlug.computeIfAbsent(k.slug(), x -> new int[2])[k.places() ? 1 : 0] += n);
+                bySlug.forEach((slug, v) -> totalRepository.increment(slug, v[0], v[1]));
+            });
+        } catch (RuntimeException e) {
+            // 반영 실패분은 되돌려 다음 주기에 재시도
+            counts.forEach((id, n) -> countDeltas.computeIfAbsent(id, k -> new LongAdder()).add(n));
+            totals.forEach((k, n) -> totalDeltas.computeIfAbsent(k, x -> new LongAdder()).add(n));
+            log.warn("[coalesce] flush failed, {} rows re-queued: {}", counts.size(), e.toString());
+            return;
+        }
+        totals.keySet().stream().map(SlugKey::slug).distinct()
+                .forEach(slug -> eventPublisher.publishEvent(new RequestChangedEvent(slug)));
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        if (enabled) flush();
+    }
+
+    // 키를 맵에서 빼고 합계를 거둔다. 다음 add는 새 adder를 만든다
+    private static <K> Map<K, Integer> drain(ConcurrentHashMap<K, LongAdder> src,
+                                             List<Map.Entry<K, LongAdder>> retired, Map<K, Integer> out) {
+        for (Map.Entry<K, LongAdder> e : retired) {
+            long late = e.getValue().sumThenReset();
+            if (late > 0) out.merge(e.getKey(), (int) late, Integer::sum);
+        }
+        retired.clear();
+        for (K key : src.keySet()) {
+            LongAdder a = src.remove(key);
+            if (a == null) continue;
+            long n = a.sumThenReset();
+            if (n > 0) out.merge(key, (int) n, Integer::sum);
+            retired.add(Map.entry(key, a));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.ssforu.pin4u.features.recommendations.application;
+
+import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceAggregateRepository;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 합치기 모드의 정합성 복구. 직전 실행 이후 노트가 들어온 집계행만 recommendation_notes 수로 올려 맞춘다.
+ * 평소엔 고칠 행이 없어야 하고, 있으면 flush 전에 프로세스가 내려간 흔적이다. 고친 만큼 request_totals에도 더한다.
+ * 기동 직후 첫 실행은 reconcile-lookback 만큼 거슬러 본다(직전 프로세스가 잃은 증가분).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "app.recommendations.coalesce.enabled", havingValue = "true")
+public class RecommendedCountReconcileJob {
+
+    private final RequestPlaceAggregateRepository aggregateRepository;
+    private final Duration grace;
+    private Instant since;
+
+    public RecommendedCountReconcileJob(
+            RequestPlaceAggregateRepository aggregateRepository,
+            @Value("${app.recommendations.coalesce.reconcile-grace:60s}") Duration grace,
+            @Value("${app.recommendations.coalesce.reconcile-lookback:1h}") Duration lookback
+    ) {
+        this.aggregateRepository = aggregateRepository;
+        this.grace = grace;
+        this.since = Instant.now().minus(lookback);
+    }
+
+    @Scheduled(cron = "${app.recommendations.coalesce.reconcile-cron:0 */10 * * * *}", zone = "Asia/Seoul")
+    public synchronized void reconcile() {
+        long started = System.currentTimeMillis();
+        Instant until = Instant.now().minus(grace);
+        if (!until.isAfter(since)) return;
+
+        int fixed = aggregateRepository.reconcileCountsFromNotes(since, until);
+        since = until;
+        if (fixed > 0) {
+            log.warn("[coalesce] reconciled {} aggregates in {}ms", fixed, System.currentTimeMillis() - started);
+        } else {
+            log.debug("[coalesce] counts consistent ({}ms)", System.currentTimeMillis() - started);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.ssforu.pin4u.features.recommendations.infra;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 추천 제출의 set 기반 쓰기. 항목 수와 무관하게 제출 1건당 문장 3개(집계행 / 노트 / 카운트).
+ * 호출자(RecommendationServiceImpl.submit) 트랜잭션에 참여한다.
+ */
+@Repository
+public class RecommendationBatchRepository {
+
+    /** 집계행 확보 결과: place_id → rpa id, rpa id → 현재 recommended_count, 이번 문장이 새로 만든 집계행의 place_id */
+    public record Aggregates(Map<Long, Long> idByPlace, Map<Long, Integer> countById, Set<Long> createdPlaces) {
+        public int created() {
+            return createdPlaces.size();
+        }
+    }
+
+    /** 노트 1행. tagsJson은 jsonb 문자열(null 허용) */
+    public record NoteRow(long rpaId, String nickname, String message, String imageUrl,
+                          boolean imageIsPublic, String tagsJson, UUID guestId) {}
+
+    /** 노트 충돌 키 (rpa_id, guest_id) */
+    public record NoteKey(long rpaId, UUID guestId) {}
+
+    private final JdbcTemplate jdbc;
+
+    public RecommendationBatchRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 없는 집계행만 INSERT ... ON CONFLICT DO NOTHING, 기존 행 id는 같은 문장에서 함께 읽는다.
+     * 문장 시작 이후 다른 트랜잭션이 커밋한 행은 스냅샷에 없으므로 빠진 것만 한 번 더 조회한다.
+     *
+     * @param distanceByPlace place_id → 역 기준 거리(m), 생성 시에만 기록
+     */
+    public Aggregates ensureAggregates(String requestId, Map<Long, Integer> distanceByPlace) {
+        if (distanceByPlace.isEmpty()) return new Aggregates(Map.of(), Map.of(), Set.of());
+
+        StringBuilder sql = new StringBuilder("WITH input(place_id, distance_m) AS (VALUES ");
+        List<Object> args = new ArrayList<>(distanceByPlace.size() * 2 + 2);
+        int i = 0;
+        for (Map.Entry<Long, Integer> e : distanceByPlace.entrySet()) {
+            if (i++ > 0) sql.append(", ");
+            sql.append("(?::bigint, ?::int)");
+            args.add(e.getKey());
+            args.add(e.getValue());
+        }
+        sql.append("""
+                ), ins AS (
+                    INSERT INTO request_place_aggregates
+                        (request_id, place_id, distance_m, recommended_count, version, first_recommended_at, last_recommended_at)
+                    SELECT ?, place_id, distance_m, 0, 0, now(), now() FROM input
+                    ON CONFLICT (request_id, place_id) DO NOTHING
+                    RETURNING place_id, id, recommended_count
+                )
+                SELECT place_id, id, recommended_count, TRUE AS created FROM ins
+                UNION ALL
+                SELECT a.place_id, a.id, a.recommended_count, FALSE FROM request_place_aggregates a
+                JOIN input i ON i.place_id = a.place_id
+                WHERE a.request_id = ?
+                """);
+        args.add(requestId);
+        args.add(requestId);
+
+        Map<Long, Long> idByPlace = new HashMap<>(distanceByPlace.size() * 2);
+        Map<Long, Integer> countById = new HashMap<>(distanceByPlace.size() * 2);
+        Set<Long> createdPlaces = new HashSet<>();
+        jdbc.query(sql.toString(), rs -> {
+            idByPlace.put(rs.getLong("place_id"), rs.getLong("id"));
+            countById.put(rs.getLong("id"), rs.getInt("recommended_count"));
+            if (rs.getBoolean("created")) createdPlaces.add(rs.getLong("place_id"));
+        }, args.toArray());
+
+        if (idByPlace.size() < distanceByPlace.size()) {
+            List<Long> missing = distanceByPlace.keySet().stream().filter(p -> !idByPlace.containsKey(p)).toList();
+            jdbc.query("SELECT place_id, id, recommended_count FROM request_place_aggregates"
+                            + " WHERE request_id = ? AND place_id IN (" + placeholders(missing.size()) + ")",
+                    rs -> {
+                        idByPlace.put(rs.getLong("place_id"), rs.getLong("id"));
+                        countById.put(rs.getLong("id"), rs.getInt("recommended_count"));
+                    },
+                    prepend(requestId, missing));
+        }
+        return new Aggregates(idByPlace, countById, createdPlaces);
+    }
+
+    /**
+     * 노트 일괄 INSERT. 이미 같은 (rpa_id, guest_id)가 있거나 같은 문장 안에서 중복이면 건너뛴다.
+     *
+     * @return 실제로 들어간 행의 키
+     */
+    public Set<NoteKey> insertNotes(List<NoteRow> rows) {
+        if (rows.isEmpty()) return Set.of();
+
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO recommendation_notes
+                    (rpa_id, nickname, recommend_message, image_url, image_is_public, tags, guest_id, created_at)
+                VALUES
+                """);
+        Object[] args = new Object[rows.size() * 7];
+        int i = 0;
+        for (NoteRow r : rows) {
+            if (i > 0) sql.append(",\n");
+            sql.append("(?, ?, ?, ?, ?, ?::jsonb, ?, now())");
+            args[i++] = r.rpaId();
+            args[i++] = r.nickname();
+            args[i++] = r.message();
+            args[i++] = r.imageUrl();
+            args[i++] = r.imageIsPublic();
+            args[i++] = r.tagsJson();
+            args[i++] = r.guestId();
+        }
+        sql.append("\nON CONFLICT (rpa_id, guest_id) DO NOTHING\nRETURNING rpa_id, guest_id");
+
+        Set<NoteKey> inserted = new HashSet<>(rows.size() * 2);
+        jdbc.query(sql.toString(), rs -> {
+            inserted.add(new NoteKey(rs.getLong("rpa_id"), rs.getObject("guest_id", UUID.class)));
+        }, args);
+        return inserted;
+    }
+
+    /**
+     * 집계행별 증가분을 한 문장으로 반영. 같은 집계행에 여러 건이면 호출자가 합산해 1행으로 넘긴다.
+     *
+     * @return rpa id → 증가 후 recommended_count
+     */
+    public Map<Long, Integer> incrementCounts(Map<Long, Integer> deltaByRpa) {
+        if (deltaByRpa.isEmpty()) return Map.of();
+
+        StringBuilder sql = new StringBuilder("""
+                UPDATE request_place_aggregates a
+                SET recommended_count = a.recommended_count + v.n,
+                    last_recommended_at = now()
+                FROM (VALUES
+                """);
+        List<Object> args = new ArrayList<>(deltaByRpa.size() * 2);
+        int i = 0;
+        for (Map.Entry<Long, Integer> e : deltaByRpa.entrySet()) {
+            if (i++ > 0) sql.append(", ");
+            sql.append("(?::bigint, ?::int)");
+            args.add(e.getKey());
+            args.add(e.getValue());
+        }
+        sql.append(") AS v(id, n)\nWHERE a.id = v.id\nRETURNING a.id, a.recommended_count");
+
+        Map<Long, Integer> counts = new HashMap<>(deltaByRpa.size() * 2);
+        jdbc.query(sql.toString(), rs -> {
+            counts.put(rs.getLong("id"), rs.getInt("recommended_count"));
+        }, args.toArray());
+        return counts;
+    }
+
+    private static String placeholders(int n) {
+        return String.join(", ", Collections.nCopies(n, "?"));
+    }
+
+    private static Object[] prepend(Object first, Collection<?> rest) {
+        Object[] out = new Object[rest.size() + 1];
+        out[0] = first;
+        int i = 1;
+        for (Object o : rest) out[i++] = o;
+        return out;
+    }
+}
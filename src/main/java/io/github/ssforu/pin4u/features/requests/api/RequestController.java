@@ -1,6 +1,7 @@
 package io.github.ssforu.pin4u.features.requests.api;
 
 import io.github.ssforu.pin4u.common.annotation.LoginUser;
+import io.github.ssforu.pin4u.common.idempotency.IdempotencyService;
 import io.github.ssforu.pin4u.common.response.ApiResponse;
 import io.github.ssforu.pin4u.features.requests.application.RequestService;
 import io.github.ssforu.pin4u.features.requests.dto.RequestDtos;
@@ -10,7 +11,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -23,13 +23,21 @@ import org.springframework.web.bind.annotation.*;
 public class RequestController {
 
     private final RequestService requestService;
+    private final IdempotencyService idempotency;
 
-    @Operation(summary = "요청 생성", security = @SecurityRequirement(name = "uidCookie"))
+    @Operation(summary = "요청 생성",
+            description = "Idempotency-Key 헤더가 있으면 같은 키의 재시도에 새 지도를 만들지 않고 저장된 응답을 돌려줍니다.",
+            security = @SecurityRequirement(name = "uidCookie"))
     @PostMapping
-    public ResponseEntity<ApiResponse<Map<String, Object>>> create(
+    public ResponseEntity<?> create(
             @LoginUser(required = true) Long me,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody RequestDtos.CreateRequest req) {
 
+        return idempotency.execute("requests:" + me, idempotencyKey, req, () -> doCreate(me, req));
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, Object>>> doCreate(Long me, RequestDtos.CreateRequest req) {
         try {
             var created = requestService.create(me, req.stationCode(), req.requestMessage(), req.groupSlug());
 
@@ -43,11 +51,15 @@ public class RequestController {
         }
     }
 
-    @Operation(summary = "요청 목록")
+    @Operation(summary = "요청 목록", description = "최신순 키셋 페이지. 다음 페이지는 next_cursor를 cursor로 넘깁니다.")
     @GetMapping
-    public ApiResponse<Map<String, Object>> list() {
-        List<RequestDtos.ListItem> items = requestService.list();
-        Map<String, Object> data = Map.of("items", items);
+    public ApiResponse<Map<String, Object>> list(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        RequestDtos.PageResponse page = requestService.list(cursor, size);
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("items", page.items());
+        data.put("next_cursor", page.nextCursor());
         return ApiResponse.success(data);
     }
 
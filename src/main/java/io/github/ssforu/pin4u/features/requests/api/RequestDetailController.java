@@ -1,15 +1,22 @@
 package io.github.ssforu.pin4u.features.requests.api;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.github.ssforu.pin4u.common.response.ApiResponse;
 import io.github.ssforu.pin4u.features.requests.application.RequestDetailService;
+import io.github.ssforu.pin4u.features.requests.application.RequestEventHub;
+import io.github.ssforu.pin4u.features.requests.application.RequestLeaderboard;
+import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.RankingResponse;
 import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.RequestDetailResponse;
 import io.github.ssforu.pin4u.features.requests.infra.AiSummaryJobRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Requests")
 @RestController
@@ -19,23 +26,75 @@ public class RequestDetailController {
 
     private final RequestDetailService requestDetailService;
     private final AiSummaryJobRepository jobRepository;
+    private final RequestLeaderboard leaderboard;
+    private final RequestEventHub eventHub;
 
     /**
      * #7 A-지도화면(지도의 핀 + 카드뉴스)
      * GET /api/requests/{slug}?limit=&include_ai=
      * - limit 기본 12, 1~50 범위로 서버 클램프
      * - include_ai=true면 캐시가 있을 때만 포함(없으면 ai:null)
+     * - ETag/If-None-Match: 버전 토큰이 같으면 DTO를 만들지 않고 304
      */
     @Operation(summary = "요청 상세", description = "지도의 핀/카드뉴스 등 상세 정보를 반환합니다.")
     @GetMapping("/{slug}")
     public ApiResponse<RequestDetailResponse> get(
             @PathVariable String slug,
-            @RequestParam(value = "limit", required = false) Integer limit
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest webRequest
     ) {
+        var token = requestDetailService.versionToken(slug);
+        if (token.isPresent() && webRequest.checkNotModified(token.get())) {
+            return null; // 304 Not Modified (ETag 헤더는 checkNotModified가 설정)
+        }
         RequestDetailResponse data = requestDetailService.getRequestDetail(slug, limit);
         return ApiResponse.success(data);
     }
 
+    /**
+     * 같은 상세를 DB 렌더 모드로: Postgres가 만든 data 문서를 파싱 없이 ApiResponse 봉투에 끼워 내보낸다.
+     * 봉투(result/error/timestamp)는 다른 응답과 같은 ApiResponse + ObjectMapper로 쓰고, data만 RawValue로 그대로 복사.
+     * GET /api/requests/{slug}?render=db&limit=
+     */
+    @Operation(summary = "요청 상세(DB 렌더)", description = "render=db: 응답 문서를 DB에서 한 번에 생성합니다. 스키마는 요청 상세와 같습니다.")
+    @GetMapping(value = "/{slug}", params = "render=db")
+    public ApiResponse<RawValue> getRendered(
+            @PathVariable String slug,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest webRequest
+    ) {
+        var token = requestDetailService.versionToken(slug);
+        if (token.isPresent() && webRequest.checkNotModified(token.get())) {
+            return null;
+        }
+        return ApiResponse.success(new RawValue(requestDetailService.getRequestDetailJson(slug, limit)));
+    }
+
+    /**
+     * 추천 순위 상위 K: GET /api/requests/{slug}/ranking?limit=
+     * - 메모리 보드에서 바로 응답(첫 조회만 DB 시드), 추천 커밋마다 증분 갱신
+     * - limit 기본/상한 app.requests.ranking.size
+     */
+    @Operation(summary = "추천 순위", description = "추천 수 기준 상위 장소를 반환합니다. 정렬은 요청 상세와 같습니다.")
+    @GetMapping("/{slug}/ranking")
+    public ApiResponse<RankingResponse> ranking(
+            @PathVariable String slug,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return ApiResponse.success(leaderboard.ranking(slug, limit));
+    }
+
+    /**
+     * 실시간 변경 스트림(SSE): GET /api/requests/{slug}/events
+     * - event: place_added | count_changed | summary_ready, data: 해당 장소 델타(JSON)
+     * - 버퍼 초과로 델타가 빠질 수 있으므로 재연결 시에는 상세를 한 번 다시 조회
+     */
+    @Operation(summary = "요청 변경 스트림", description = "추천 추가/카운트 변경/AI 요약 완료를 Server-Sent Events로 보냅니다.")
+    @GetMapping(value = "/{slug}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String slug) {
+        return eventHub.subscribe(slug);
+    }
+
     @Operation(summary = "AI 요약 작업 상태", description = "요청에 대한 AI 요약 생성 작업의 현재 상태를 반환합니다.")
     @GetMapping("/{slug}/summary-status")
     public ResponseEntity<ApiResponse<Map<String, Object>>> summaryStatus(@PathVariable String slug) {
@@ -1,11 +1,13 @@
 package io.github.ssforu.pin4u.features.requests.api;
 
 import io.github.ssforu.pin4u.common.response.ApiResponse;
+import io.github.ssforu.pin4u.features.requests.application.RequestDetailService;
 import io.github.ssforu.pin4u.features.requests.application.RequestPlaceNotesService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Requests")
 @RestController
@@ -14,14 +16,21 @@ import org.springframework.web.bind.annotation.*;
 public class RequestPlaceNotesController {
 
     private final RequestPlaceNotesService service;
+    private final RequestDetailService detailService;
 
     @Operation(summary = "장소 메모 조회", description = "요청 슬러그 + 외부 장소 ID로 메모를 조회합니다.")
     @GetMapping("/{slug}/places/notes")
     public ApiResponse getNotes(
             @PathVariable String slug,
             @RequestParam("external_id") String externalId,
-            @RequestParam(value = "limit", required = false) Integer limit
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest webRequest
     ) {
+        // 노트 수/최근 노트 id가 요청 단위 버전 토큰에 포함되므로 같은 토큰을 쓴다(캐시 키는 URL 단위)
+        var token = detailService.versionToken(slug);
+        if (token.isPresent() && webRequest.checkNotModified(token.get())) {
+            return null;
+        }
         return ApiResponse.success(service.getNotes(slug, externalId, limit));
     }
 }
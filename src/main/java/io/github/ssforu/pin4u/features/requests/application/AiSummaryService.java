@@ -1,5 +1,10 @@
 package io.github.ssforu.pin4u.features.requests.application;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +24,29 @@ public interface AiSummaryService {
             List<String> reviewSnippets,
             List<String> userTags
     );
+
+    /**
+     * 요약 single-flight/캐시 키: external_id + 입력(evidence) 지문.
+     * 같은 장소라도 입력이 다르면(요청별 user_tags, 평점·리뷰 유무) 다른 요약이므로 서로 합류하지 않는다.
+     */
+    static String inputKey(
+            String externalId,
+            String placeName,
+            String categoryName,
+            Double rating,
+            Integer ratingCount,
+            List<String> reviewSnippets,
+            List<String> userTags
+    ) {
+        String joined = String.join("\u0001",
+                String.valueOf(placeName), String.valueOf(categoryName),
+                String.valueOf(rating), String.valueOf(ratingCount),
+                String.valueOf(reviewSnippets), String.valueOf(userTags));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return externalId + ":" + HexFormat.of().formatHex(Arrays.copyOf(digest, 12));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
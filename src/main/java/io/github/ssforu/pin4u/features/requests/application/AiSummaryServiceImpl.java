@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.github.ssforu.pin4u.common.util.SingleFlight;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +22,7 @@ public class AiSummaryServiceImpl implements AiSummaryService {
 
     private final WebClient openai;
     private final AiSummaryTxHelper txHelper;
+    private final SingleFlight<String, Optional<String>> summaryFlight;
 
     @Value("${app.ai.enabled:true}")
     private boolean aiEnabled;
@@ -32,10 +34,12 @@ public class AiSummaryServiceImpl implements AiSummaryService {
 
     public AiSummaryServiceImpl(
             @Qualifier("openaiWebClient") WebClient openai,
-            AiSummaryTxHelper txHelper
+            AiSummaryTxHelper txHelper,
+            SingleFlight<String, Optional<String>> aiSummaryFlight
     ) {
         this.openai = openai;
         this.txHelper = txHelper;
+        this.summaryFlight = aiSummaryFlight;
     }
 
     /**
@@ -55,10 +59,13 @@ public class AiSummaryServiceImpl implements AiSummaryService {
 
         for (var target : targets) {
             // [2단: tx 없음] 외부 API 호출 — DB 커넥션 미점유
-            Optional<String> summaryOpt = generateSummary(
+            // 같은 장소·같은 입력의 요약이 동시에 진행 중이면 그 결과를 공유(입력이 다른 자동추천과는 합류하지 않음)
+            String key = AiSummaryService.inputKey(target.externalId(),
+                    target.placeName(), target.categoryName(), null, null, null, null);
+            Optional<String> summaryOpt = summaryFlight.execute(key, () -> generateSummary(
                     target.placeName(), target.categoryName(),
                     null, null, null, null
-            );
+            ));
 
             // [3단: 쓰기 tx] 결과 저장 — 짧은 tx
             if (summaryOpt.isPresent()) {
@@ -4,10 +4,13 @@ import io.github.ssforu.pin4u.features.places.domain.Place;
 import io.github.ssforu.pin4u.features.places.domain.PlaceSummary;
 import io.github.ssforu.pin4u.features.places.infra.PlaceRepository;
 import io.github.ssforu.pin4u.features.places.infra.PlaceSummaryRepository;
+import io.github.ssforu.pin4u.features.requests.event.PlaceSummaryReadyEvent;
+import io.github.ssforu.pin4u.features.requests.event.RequestChangedEvent;
 import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceAggregateRepository;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,8 +30,9 @@ public class AiSummaryTxHelper {
     private final RequestPlaceAggregateRepository rpaRepository;
     private final PlaceRepository placeRepository;
     private final PlaceSummaryRepository placeSummaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public record Target(Long placeId, String placeName, String categoryName) {}
+    public record Target(Long placeId, String externalId, String placeName, String categoryName) {}
 
     @Transactional(readOnly = true)
     public List<Target> loadTargets(String requestSlug) {
@@ -37,7 +41,7 @@ public class AiSummaryTxHelper {
                 .filter(agg -> !placeSummaryRepository.existsById(agg.getPlaceId()))
                 .map(agg -> {
                     Optional<Place> place = placeRepository.findById(agg.getPlaceId());
-                    return place.map(p -> new Target(p.getId(), p.getPlaceName(), p.getCategoryName()))
+                    return place.map(p -> new Target(p.getId(), p.getExternalId(), p.getPlaceName(), p.getCategoryName()))
                             .orElse(null);
                 })
                 .filter(t -> t != null)
@@ -54,6 +58,10 @@ public class AiSummaryTxHelper {
                         .evidence("AI Generated based on basic info")
                         .build();
                 placeSummaryRepository.save(summary);
+                // 이 장소가 포함된 모든 요청 상세가 바뀐다
+                List<String> slugs = rpaRepository.findRequestIdsByPlaceId(placeId);
+                slugs.forEach(slug -> eventPublisher.publishEvent(new RequestChangedEvent(slug)));
+                eventPublisher.publishEvent(new PlaceSummaryReadyEvent(place.getExternalId(), summaryText, slugs));
             }
         });
     }
@@ -0,0 +1,56 @@
+package io.github.ssforu.pin4u.features.requests.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.RequestDetailResponse;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 상세 응답 캐시. 키: (slug, limit 버킷 12/24/50)
+ * - 버킷 크기로 조립해 두고 요청 limit만큼 잘라서 반환 → limit 값마다 엔트리가 생기지 않음
+ * - 쓰기 경로가 RequestChangedEvent를 발행하면 커밋 후 해당 slug의 모든 버킷을 무효화
+ * - 적재는 Cache.get(key, loader)로 수행: 로딩 중 무효화가 오면 로딩 결과는 버려진다
+ */
+@Component
+public class RequestDetailCache {
+
+    private static final int[] BUCKETS = {12, 24, 50};
+
+    private final Cache<Object, Object> cache;
+
+    public RequestDetailCache(@Qualifier("requestDetailCache") Cache<Object, Object> cache) {
+        this.cache = cache;
+    }
+
+    private record Key(String slug, int bucket) {}
+
+    /** limit 이상인 가장 작은 버킷 */
+    public static int bucketOf(int limit) {
+        for (int b : BUCKETS) {
+            if (limit <= b) return b;
+        }
+        return BUCKETS[BUCKETS.length - 1];
+    }
+
+    /**
+     * @param loader 버킷 크기(bucketOf(limit))로 조립한 응답을 만든다
+     */
+    public RequestDetailResponse get(String slug, int limit, Supplier<RequestDetailResponse> loader) {
+        RequestDetailResponse full = (RequestDetailResponse) cache.get(new Key(slug, bucketOf(limit)), k -> loader.get());
+        return truncate(full, limit);
+    }
+
+    public void invalidate(String slug) {
+        if (slug == null) return;
+        for (int b : BUCKETS) {
+            cache.invalidate(new Key(slug, b));
+        }
+    }
+
+    private static RequestDetailResponse truncate(RequestDetailResponse r, int limit) {
+        if (r == null || r.items() == null || r.items().size() <= limit) return r;
+        return new RequestDetailResponse(r.slug(), r.station(), r.requestMessage(),
+                r.items().subList(0, limit), r.group());
+    }
+}
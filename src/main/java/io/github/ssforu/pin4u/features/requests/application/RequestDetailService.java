@@ -1,7 +1,14 @@
 package io.github.ssforu.pin4u.features.requests.application;
 
 import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.RequestDetailResponse;
+import java.util.Optional;
 
 public interface RequestDetailService {
     RequestDetailResponse getRequestDetail(String slug, Integer limit);
+
+    // DB 렌더 모드: 상세 data 문서를 Postgres에서 만든 JSON 텍스트 그대로 반환
+    String getRequestDetailJson(String slug, Integer limit);
+
+    // 조건부 GET(ETag)용 버전 토큰. 요청이 없으면 empty
+    Optional<String> versionToken(String slug);
 }
@@ -1,7 +1,7 @@
 package io.github.ssforu.pin4u.features.requests.application;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ssforu.pin4u.common.datasource.PrimaryReads;
+import io.github.ssforu.pin4u.features.places.application.PlaceMockCache;
 import io.github.ssforu.pin4u.features.requests.domain.Request;
 import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos;
 import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.*;
@@ -9,12 +9,12 @@ import io.github.ssforu.pin4u.features.requests.infra.RequestDetailQueryReposito
 import io.github.ssforu.pin4u.features.requests.infra.RequestDetailQueryRepository.Row;
 import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceNotesQueryRepository;
 import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
-import io.github.ssforu.pin4u.features.stations.domain.Station;
-import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
-import java.math.BigDecimal;
+import io.github.ssforu.pin4u.features.requests.infra.RequestVersionQueryRepository;
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
 import java.util.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -23,34 +23,66 @@ import org.springframework.web.server.ResponseStatusException;
 public class RequestDetailServiceImpl implements RequestDetailService {
 
     private final RequestRepository requestRepository;
-    private final StationRepository stationRepository;
+    private final StationRegistry stationRegistry;
     private final RequestDetailQueryRepository queryRepository;
     private final RequestPlaceNotesQueryRepository notesQueryRepository;
-    private final ObjectMapper objectMapper;
+    private final PlaceMockCache mockCache;
+    private final RequestDetailCache detailCache;
+    private final RequestVersionQueryRepository versionRepository;
 
     public RequestDetailServiceImpl(
             RequestRepository requestRepository,
-            StationRepository stationRepository,
+            StationRegistry stationRegistry,
             RequestDetailQueryRepository queryRepository,
             RequestPlaceNotesQueryRepository notesQueryRepository,
-            ObjectMapper objectMapper
+            PlaceMockCache mockCache,
+            RequestDetailCache detailCache,
+            RequestVersionQueryRepository versionRepository
     ) {
         this.requestRepository = requestRepository;
-        this.stationRepository = stationRepository;
+        this.stationRegistry = stationRegistry;
         this.queryRepository = queryRepository;
         this.notesQueryRepository = notesQueryRepository;
-        this.objectMapper = objectMapper;
+        this.mockCache = mockCache;
+        this.detailCache = detailCache;
+        this.versionRepository = versionRepository;
     }
 
+    // ETag 토큰과 본문/캐시 적재는 primary에서 읽는다(PrimaryReads): 레플리카의 커밋 전 값이 새 토큰에 묶이지 않게
     @Override
+    public Optional<String> versionToken(String slug) {
+        return PrimaryReads.call(() -> versionRepository.findVersionTokenBySlug(slug));
+    }
+
+    /**
+     * 캐시 적중 시 트랜잭션·커넥션 없이 반환(SUPPORTS). 미스일 때만 조회 3회 + 조립.
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public RequestDetailResponse getRequestDetail(String slug, Integer limit) {
+        int lim = clampLimit(limit);
+        return detailCache.get(slug, lim, () -> PrimaryReads.call(() -> load(slug, RequestDetailCache.bucketOf(lim))));
+    }
+
+    /**
+     * 조회 1회로 완성된 JSON. 행 프로젝션/Jackson 파싱·재직렬화가 없고 DTO 캐시도 거치지 않는다.
+     */
+    @Override
+    public String getRequestDetailJson(String slug, Integer limit) {
+        return PrimaryReads.call(() -> queryRepository.renderDetailJsonBySlug(slug, clampLimit(limit)))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "request not found"));
+    }
+
+    private static int clampLimit(Integer limit) {
+        return (limit == null) ? 12 : Math.min(Math.max(limit, 1), 50);
+    }
+
+    private RequestDetailResponse load(String slug, int lim) {
         Request req = requestRepository.findBySlug(slug)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "request not found"));
-        Station st = stationRepository.findByCode(req.getStationCode())
+        StationRegistry.Entry st = stationRegistry.find(req.getStationCode())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "station not found"));
 
-        int lim = (limit == null) ? 12 : Math.min(Math.max(limit, 1), 50);
-
         List<Row> rows = queryRepository.findItemsBySlug(slug, lim);
 
         List<Item> items = new ArrayList<>(rows.size());
@@ -58,12 +90,10 @@ public class RequestDetailServiceImpl implements RequestDetailService {
             Mock mock = null;
             if (r.getMock_rating() != null || r.getMock_rating_count() != null
                     || r.getMock_image_urls_json() != null || r.getMock_opening_hours_json() != null) {
-                mock = new Mock(
-                        r.getMock_rating(),
-                        r.getMock_rating_count(),
-                        parseJsonArrayOfString(r.getMock_image_urls_json()),
-                        parseJsonArrayOfString(r.getMock_opening_hours_json())
-                );
+                var decoded = mockCache.fromColumns(r.getExternal_id(),
+                        r.getMock_rating(), r.getMock_rating_count(), r.getMock_review_snippets_json(),
+                        r.getMock_image_urls_json(), r.getMock_opening_hours_json());
+                mock = new Mock(decoded.rating(), decoded.ratingCount(), decoded.imageUrls(), decoded.openingHours());
             }
 
             // AI 요약은 쿼리 결과에서 직접 가져옴 (외부 API 호출 없음)
@@ -96,24 +126,9 @@ public class RequestDetailServiceImpl implements RequestDetailService {
         }
 
         RequestDetailDtos.Station dtoStation = new RequestDetailDtos.Station(
-                st.getCode(), st.getName(), st.getLine(), toBigDecimal(st.getLat()), toBigDecimal(st.getLng())
+                st.code(), st.name(), st.line(), st.lat(), st.lng()
         );
 
-        return new RequestDetailResponse(req.getSlug(), dtoStation, req.getRequestMessage(), items, null);
-    }
-
-    private List<String> parseJsonArrayOfString(String json) {
-        if (json == null || json.isBlank()) return null;
-        try {
-            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private BigDecimal toBigDecimal(Object v) {
-        if (v == null) return null;
-        if (v instanceof BigDecimal bd) return bd;
-        return new BigDecimal(v.toString());
+        return new RequestDetailResponse(req.getSlug(), dtoStation, req.getRequestMessage(), List.copyOf(items), null);
     }
 }
@@ -0,0 +1,244 @@
+package io.github.ssforu.pin4u.features.requests.application;
+
+import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.PlaceDelta;
+import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.SummaryDelta;
+import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.SummaryStatus;
+import io.github.ssforu.pin4u.features.requests.event.PlaceRecommendedEvent;
+import io.github.ssforu.pin4u.features.requests.event.PlaceSummaryReadyEvent;
+import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 요청(slug)별 SSE 팬아웃 허브(GET /api/requests/{slug}/events).
+ * - 커밋 이후 추천 제출(PlaceRecommendedEvent), AI 요약 저장(PlaceSummaryReadyEvent)을 작은 델타로 보낸다:
+ *   place_added / count_changed / summary_ready
+ * - 구독자마다 버퍼 상한(buffer-size)이 있고 가득 차면 가장 오래된 델타를 버린다(느린 클라이언트가 서버 메모리를 잡지 않게).
+ *   델타를 놓친 클라이언트는 상세 조회(ETag)로 다시 맞춘다
+ * - 보낼 게 있을 때만 sseExecutor에 드레인 작업을 올린다. 대기 중인 구독자는 emitter + 빈 버퍼만 차지하고 스레드를 쓰지 않는다
+ * - 풀/큐가 차서 드레인이 거절되면 발행 스레드에서 보내지 않고 버린다. 델타는 버퍼에 남아 다음 offer(늦어도 하트비트)에서 다시 올린다
+ * - 구독자가 없는 slug의 이벤트는 맵 조회 1번으로 끝난다
+ */
+@Slf4j
+@Component
+public class RequestEventHub {
+
+    public static final String PLACE_ADDED = "place_added";
+    public static final String COUNT_CHANGED = "count_changed";
+    public static final String SUMMARY_READY = "summary_ready";
+
+    private record Delta(String name, Object data) {}
+
+    // 하트비트/연결 직후 주석 프레임(프록시 버퍼 flush, 끊긴 연결 감지)
+    private static final Delta PING = new Delta(null, null);
+
+    private final class Subscriber {
+        private final String slug;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Delta> buffer = new ArrayDeque<>(2);
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(String slug, SseEmitter emitter) {
+            this.slug = slug;
+            this.emitter = emitter;
+        }
+
+        void offer(Delta d) {
+            synchronized (this) {
+                if (closed) return;
+                // 보낼 델타가 있으면 하트비트는 생략(거절됐던 드레인은 아래에서 다시 올린다)
+                if (d != PING || buffer.isEmpty()) {
+                    if (buffer.size() >= bufferSize) {
+                        buffer.pollFirst();
+                        dropped.increment();
+                    }
+                    buffer.addLast(d);
+                }
+                if (draining) return;
+                draining = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+                rejected.increment();
+            }
+        }
+
+        // 구독자당 드레인은 동시에 하나만 돈다(draining). 소켓 쓰기는 락 밖에서
+        void drain() {
+            while (true) {
+                Delta d;
+                synchronized (this) {
+                    d = buffer.pollFirst();
+                    if (d == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    if (d == PING) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(d.name()).data(d.data(), MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트 종료/타임아웃: 정리만 하고 조용히 끝낸다
+                    log.debug("[sse] send failed slug={}: {}", slug, e.toString());
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) return;
+                closed = true;
+                buffer.clear();
+            }
+            unregister(this);
+        }
+    }
+
+    private final ConcurrentHashMap<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    private final RequestRepository requestRepository;
+    private final Executor executor;
+    private final Counter dropped;
+    private final Counter rejected;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+
+    public RequestEventHub(
+            RequestRepository requestRepository,
+            @Qualifier("sseExecutor") Executor executor,
+            MeterRegistry registry,
+            @Value("${app.requests.events.buffer-size:32}") int bufferSize,
+            @Value("${app.requests.events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${app.requests.events.timeout:30m}") Duration timeout
+    ) {
+        this.requestRepository = requestRepository;
+        this.executor = executor;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.dropped = Counter.builder("sse.deltas.dropped")
+                .description("SSE deltas dropped by the per-subscriber drop-oldest buffer")
+                .register(registry);
+        this.rejected = Counter.builder("sse.drains.rejected")
+                .description("SSE drain tasks rejected by a saturated sseExecutor (retried on the next offer)")
+                .register(registry);
+        Gauge.builder("sse.subscribers", subscribers, AtomicInteger::get).register(registry);
+    }
+
+    /** 구독. 없는 요청이면 404, 인스턴스 구독자 상한을 넘으면 503 */
+    public SseEmitter subscribe(String slug) {
+        if (requestRepository.findBySlug(slug).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "request not found");
+        }
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "too many subscribers");
+        }
+
+        SseEmitter emitter = newEmitter(timeout.toMillis());
+        Subscriber sub = new Subscriber(slug, emitter);
+        emitter.onCompletion(sub::close);
+        emitter.onTimeout(sub::close);
+        emitter.onError(e -> sub.close());
+        // 추가도 compute 안에서: 마지막 구독자 해제로 빈 집합이 맵에서 빠지는 것과 엇갈리지 않게
+        topics.compute(slug, (k, subs) -> {
+            Set<Subscriber> s = (subs != null) ? subs : ConcurrentHashMap.newKeySet();
+            s.add(sub);
+            return s;
+        });
+
+        sub.offer(PING);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlaceRecommended(PlaceRecommendedEvent event) {
+        Set<Subscriber> subs = topics.get(event.requestSlug());
+        if (subs == null) return;
+        for (PlaceRecommendedEvent.Place p : event.places()) {
+            Delta d = new Delta(p.added() ? PLACE_ADDED : COUNT_CHANGED,
+                    new PlaceDelta(p.externalId(), p.placeName(), p.distanceM(), p.recommendedCount()));
+            for (Subscriber s : subs) s.offer(d);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSummaryReady(PlaceSummaryReadyEvent event) {
+        Delta d = new Delta(SUMMARY_READY,
+                new SummaryDelta(event.externalId(), SummaryStatus.READY, event.summaryText()));
+        for (String slug : event.requestSlugs()) {
+            Set<Subscriber> subs = topics.get(slug);
+            if (subs == null) continue;
+            for (Subscriber s : subs) s.offer(d);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.requests.events.heartbeat:25s}")
+    public void heartbeat() {
+        for (Set<Subscriber> subs : topics.values()) {
+            for (Subscriber s : subs) s.offer(PING);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    // 종료 시 열린 스트림을 닫아 graceful shutdown이 타임아웃까지 기다리지 않게 한다
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscriber> subs : topics.values()) {
+            for (Subscriber s : subs) {
+                s.close();
+                s.emitter.complete();
+            }
+        }
+    }
+
+    // 테스트에서 전송을 관찰하려고 분리
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void unregister(Subscriber sub) {
+        topics.computeIfPresent(sub.slug, (k, subs) -> {
+            subs.remove(sub);
+            return subs.isEmpty() ? null : subs;
+        });
+        subscribers.decrementAndGet();
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.ssforu.pin4u.features.requests.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.ssforu.pin4u.common.datasource.PrimaryReads;
+import io.github.ssforu.pin4u.common.util.IndexedTopK;
+import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.RankingItem;
+import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.RankingResponse;
+import io.github.ssforu.pin4u.features.requests.event.PlaceRecommendedEvent;
+import io.github.ssforu.pin4u.features.requests.infra.RequestDetailQueryRepository;
+import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 요청(slug)별 추천 순위 상위 K 보드(메모리).
+ * - 첫 조회에서 RequestDetailQueryRepository로 상위 K를 시드하고, 이후 조회는 DB를 타지 않는다
+ * - 추천 커밋(PlaceRecommendedEvent)마다 해당 장소만 증분 반영. 카운트는 오르기만 하므로
+ *   보드 밖 장소도 새 값이 보드 최하위보다 크면 들어오고 그때 최하위가 빠진다
+ * - 이벤트는 절대값이라 순서가 바뀌어 와도 큰 값만 남긴다. 시드 중에 커밋된 이벤트도 시드할 보드에 바로 반영한다
+ * - 조회가 없으면 idle 후 제거, 시드 후 max-age가 지나면 다시 시드(이벤트 밖 변경·삭제 반영)
+ */
+@Component
+public class RequestLeaderboard {
+
+    private record Entry(String externalId, String placeName, Integer distanceM, int count) {}
+
+    // 상세 정렬과 같게: 추천 수↓, 거리↑(null 마지막), 외부 ID
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt(Entry::count).reversed()
+            .thenComparing(Entry::distanceM, Comparator.nullsLast(Integer::compareTo))
+            .thenComparing(Entry::externalId);
+
+    private static final class Board {
+        private final IndexedTopK<String, Entry> top;
+
+        Board(int k) {
+            this.top = new IndexedTopK<>(k, ORDER);
+        }
+
+        synchronized void raise(Entry e) {
+            Entry cur = top.get(e.externalId()).orElse(null);
+            if (cur != null && cur.count() >= e.count()) return;
+            top.offer(e.externalId(), e);
+        }
+
+        synchronized List<Entry> snapshot() {
+            return top.sorted();
+        }
+    }
+
+    private final RequestDetailQueryRepository queryRepository;
+    private final RequestRepository requestRepository;
+    private final Cache<String, Board> boards;
+    // 시드 중인 보드. 캐시에 올라가기 전(getIfPresent == null)에 온 이벤트를 여기에 반영한다
+    private final ConcurrentHashMap<String, Board> seeding = new ConcurrentHashMap<>();
+    private final int k;
+
+    public RequestLeaderboard(
+            RequestDetailQueryRepository queryRepository,
+            RequestRepository requestRepository,
+            @Value("${app.requests.ranking.size:20}") int k,
+            @Value("${app.requests.ranking.maximum-size:5000}") long maximumSize,
+            @Value("${app.requests.ranking.idle:10m}") Duration idle,
+            @Value("${app.requests.ranking.max-age:5m}") Duration maxAge
+    ) {
+        this.queryRepository = queryRepository;
+        this.requestRepository = requestRepository;
+        this.k = k;
+        this.boards = Caffeine.newBuilder()
+                // 보드 1개 = K개 엔트리. 활발히 조회되는 요청만 남긴다.
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idle)
+                .expireAfterWrite(maxAge)
+                .build();
+    }
+
+    /** 상위 limit개(최대 K). 보드가 따뜻하면 DB 조회 없음. 없는 요청이면 404 */
+    public RankingResponse ranking(String slug, Integer limit) {
+        int n = (limit == null || limit <= 0) ? k : Math.min(limit, k);
+        Board board = boards.get(slug, this::seed);
+        seeding.remove(slug, board); // 캐시에 올라간 뒤에 빼야 이벤트가 두 곳 다 못 보는 틈이 없다
+        List<Entry> entries = board.snapshot();
+
+        List<RankingItem> items = new ArrayList<>(Math.min(n, entries.size()));
+        for (int i = 0; i < entries.size() && i < n; i++) {
+            Entry e = entries.get(i);
+            items.add(new RankingItem(i + 1, e.externalId(), e.placeName(), e.distanceM(), e.count()));
+        }
+        return new RankingResponse(slug, List.copyOf(items));
+    }
+
+    // 커밋 이후에만 반영. 보드가 없으면 건드리지 않는다(첫 조회에서 DB 값으로 시드)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlaceRecommended(PlaceRecommendedEvent event) {
+        // 시드 중인 보드를 먼저 본다: 시드가 끝나 빠졌다면 이미 캐시에 올라가 있다
+        Board board = seeding.get(event.requestSlug());
+        if (board == null) board = boards.getIfPresent(event.requestSlug());
+        if (board == null) return;
+        for (PlaceRecommendedEvent.Place p : event.places()) {
+            board.raise(new Entry(p.externalId(), p.placeName(), p.distanceM(), p.recommendedCount()));
+        }
+    }
+
+    // 보드는 max-age 동안 증분만 받으므로 시드는 primary에서 읽는다(레플리카 지연분을 붙잡지 않게)
+    // 조회 전에 보드를 seeding에 올려, 조회와 캐시 적재 사이에 커밋된 이벤트도 받는다(raise는 큰 값만 남김)
+    private Board seed(String slug) {
+        Board board = new Board(k);
+        seeding.put(slug, board);
+        List<RequestDetailQueryRepository.RankRow> rows;
+        try {
+            rows = PrimaryReads.call(() -> queryRepository.findRankingBySlug(slug, k));
+            if (rows.isEmpty() && PrimaryReads.call(() -> requestRepository.findBySlug(slug)).isEmpty()) {
+                // 로더 예외는 캐시에 남지 않는다
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "request not found");
+            }
+        } catch (RuntimeException e) {
+            seeding.remove(slug, board);
+            throw e;
+        }
+        for (RequestDetailQueryRepository.RankRow r : rows) {
+            int count = r.getRecommended_count() == null ? 0 : r.getRecommended_count();
+            board.raise(new Entry(r.getExternal_id(), r.getPlace_name(), r.getDistance_m(), count));
+        }
+        return board;
+    }
+}
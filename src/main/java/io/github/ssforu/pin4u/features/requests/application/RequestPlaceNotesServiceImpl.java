@@ -2,17 +2,23 @@ package io.github.ssforu.pin4u.features.requests.application;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ssforu.pin4u.common.datasource.PrimaryReads;
+import io.github.ssforu.pin4u.features.places.application.PlaceMaterializer;
+import io.github.ssforu.pin4u.features.places.domain.Place;
 import io.github.ssforu.pin4u.features.requests.domain.Request;
 import io.github.ssforu.pin4u.features.requests.domain.RequestPlaceAggregate;
 import io.github.ssforu.pin4u.features.requests.dto.RequestPlaceNotesDtos;
+import io.github.ssforu.pin4u.features.requests.event.RequestChangedEvent;
 import io.github.ssforu.pin4u.features.requests.event.RequestCreatedEvent;
 import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceAggregateRepository;
 import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceNotesQueryRepository;
 import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
+import io.github.ssforu.pin4u.features.requests.infra.RequestTotalRepository;
 import io.github.ssforu.pin4u.features.requests.infra.SlugGenerator;
-import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -32,8 +38,10 @@ public class RequestPlaceNotesServiceImpl implements RequestPlaceNotesService {
 
     // 생성용 의존성
     private final RequestRepository requestRepository;
-    private final StationRepository stationRepository;
+    private final StationRegistry stationRegistry;
     private final RequestPlaceAggregateRepository rpaRepository;
+    private final RequestTotalRepository totalRepository;
+    private final PlaceMaterializer placeMaterializer;
     private final SlugGenerator slugGenerator;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -43,6 +51,11 @@ public class RequestPlaceNotesServiceImpl implements RequestPlaceNotesService {
     @Override
     @Transactional(readOnly = true)
     public RequestPlaceNotesDtos.Response getNotes(String slug, String externalId, Integer limit) {
+        // 요청 버전 토큰(ETag)을 같이 쓰는 응답이라 primary에서 읽는다
+        return PrimaryReads.call(() -> loadNotes(slug, externalId, limit));
+    }
+
+    private RequestPlaceNotesDtos.Response loadNotes(String slug, String externalId, Integer limit) {
         int lim = (limit == null || limit <= 0 || limit > 100) ? 50 : limit;
 
         var meta = queryRepo.findPlaceMeta(slug, externalId)
@@ -77,7 +90,7 @@ public class RequestPlaceNotesServiceImpl implements RequestPlaceNotesService {
     @Transactional
     public String createRequestWithNotes(Long userId, RequestPlaceNotesDtos.CreateRequest req) {
         // 1. 역 검증
-        if (!stationRepository.existsByCode(req.stationCode())) {
+        if (!stationRegistry.contains(req.stationCode())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid_station");
         }
 
@@ -91,19 +104,42 @@ public class RequestPlaceNotesServiceImpl implements RequestPlaceNotesService {
                 req.message() == null ? "" : req.message()
         ));
 
-        // 3. RPA(집계) 생성
-        List<RequestPlaceAggregate> aggregates = req.places().stream()
-                .map(p -> new RequestPlaceAggregate(savedRequest.getSlug(), p.placeId()))
+        // 3. RPA(집계) 생성 — placeId 없이 externalId만 온 항목은 places로 승격 후 연결
+        List<RequestPlaceNotesDtos.PlaceItem> items = req.places() == null ? List.of() : req.places();
+        Map<String, Place> byExternalId = placeMaterializer.findOrMaterialize(items.stream()
+                .filter(p -> p.placeId() == null && p.externalId() != null)
+                .map(RequestPlaceNotesDtos.PlaceItem::externalId)
+                .toList());
+
+        List<RequestPlaceAggregate> aggregates = items.stream()
+                .map(p -> resolvePlaceId(p, byExternalId))
+                .distinct()
+                .map(placeId -> new RequestPlaceAggregate(savedRequest.getSlug(), placeId))
                 .toList();
         rpaRepository.saveAll(aggregates);
+        rpaRepository.flush();
+        rpaRepository.fillMissingDistances(savedRequest.getSlug());
+        if (!aggregates.isEmpty()) {
+            totalRepository.increment(savedRequest.getSlug(), 0, aggregates.size());
+        }
 
         // 4. [Async] AI 요약 요청 -> 이벤트 발행
         eventPublisher.publishEvent(new RequestCreatedEvent(savedRequest.getSlug(), userId));
+        eventPublisher.publishEvent(new RequestChangedEvent(savedRequest.getSlug()));
 
         return savedRequest.getSlug();
     }
 
     // Helper Method
+    private static Long resolvePlaceId(RequestPlaceNotesDtos.PlaceItem item, Map<String, Place> byExternalId) {
+        if (item.placeId() != null) return item.placeId();
+        Place place = item.externalId() == null ? null : byExternalId.get(item.externalId());
+        if (place == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unknown_place");
+        }
+        return place.getId();
+    }
+
     private List<String> parseTagsSafe(String json) {
         if (json == null || json.isBlank()) return Collections.emptyList();
         try {
@@ -1,7 +1,6 @@
 package io.github.ssforu.pin4u.features.requests.application;
 
 import io.github.ssforu.pin4u.features.requests.dto.RequestDtos;
-import java.util.List;
 
 public interface RequestService {
 
@@ -9,7 +8,8 @@ public interface RequestService {
 
     RequestDtos.ListItem get(String slug);
 
-    List<RequestDtos.ListItem> list();
+    // 키셋 페이지(cursor: 직전 응답의 next_cursor, size: 기본 20 / 최대 100)
+    RequestDtos.PageResponse list(String cursor, Integer size);
 
     enum DeleteResult { OK, NOT_OWNER, NOT_FOUND }
 
@@ -1,22 +1,21 @@
 package io.github.ssforu.pin4u.features.requests.application;
 
+import io.github.ssforu.pin4u.common.util.KeysetCursor;
 import io.github.ssforu.pin4u.features.groups.domain.Group;
 import io.github.ssforu.pin4u.features.groups.infra.GroupRepository;
 import io.github.ssforu.pin4u.features.member.domain.User;
 import io.github.ssforu.pin4u.features.member.infra.UserRepository;
 import io.github.ssforu.pin4u.features.requests.domain.Request;
+import io.github.ssforu.pin4u.features.requests.domain.RequestTotal;
 import io.github.ssforu.pin4u.features.requests.dto.RequestDtos;
+import io.github.ssforu.pin4u.features.requests.event.RequestChangedEvent;
 import io.github.ssforu.pin4u.features.requests.event.RequestCreatedEvent;
-import io.github.ssforu.pin4u.features.requests.infra.RequestPlaceAggregateRepository;
 import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
+import io.github.ssforu.pin4u.features.requests.infra.RequestTotalRepository;
 import io.github.ssforu.pin4u.features.requests.infra.SlugGenerator;
-import io.github.ssforu.pin4u.features.stations.domain.Station;
-import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -27,33 +26,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class RequestServiceImpl implements RequestService {
 
     private final RequestRepository requestRepository;
-    private final StationRepository stationRepository;
+    private final StationRegistry stationRegistry;
     private final SlugGenerator slugGenerator;
-    private final RequestPlaceAggregateRepository rpaRepository;
+    private final RequestTotalRepository totalRepository;
     private final GroupRepository groupRepository;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
 
-    private static final Map<String, String> LEGACY_ALIAS = Map.of(
-            "7-733", "S0701"
-    );
-
-    private static final Pattern CODE_P = Pattern.compile("\\\"code\\\"\\s*:\\s*\\\"([^\\\"]+)\\\"");
-    private static final Pattern NAME_P = Pattern.compile("\\\"name\\\"\\s*:\\s*\\\"([^\\\"]+)\\\"");
-    private static final Pattern LINE_P = Pattern.compile("\\\"line\\\"\\s*:\\s*\\\"?([0-9A-Za-z가-힣]+)\\\"?");
-    private static final Pattern LEGACY_CODE_P = Pattern.compile("^\\d+-\\d+$");
-
     public RequestServiceImpl(RequestRepository requestRepository,
-                              StationRepository stationRepository,
+                              StationRegistry stationRegistry,
                               SlugGenerator slugGenerator,
-                              RequestPlaceAggregateRepository rpaRepository,
+                              RequestTotalRepository totalRepository,
                               GroupRepository groupRepository,
                               UserRepository userRepository,
                               ApplicationEventPublisher eventPublisher) {
         this.requestRepository = requestRepository;
-        this.stationRepository = stationRepository;
+        this.stationRegistry = stationRegistry;
         this.slugGenerator = slugGenerator;
-        this.rpaRepository = rpaRepository;
+        this.totalRepository = totalRepository;
         this.groupRepository = groupRepository;
         this.userRepository = userRepository;
         this.eventPublisher = eventPublisher;
@@ -112,14 +102,14 @@ public class RequestServiceImpl implements RequestService {
         Request r = requestRepository.findBySlug(slug)
                 .orElseThrow(() -> new IllegalArgumentException("request not found: " + slug));
 
-        Station st = null;
-        if (r.getStationCode() != null && !r.getStationCode().isBlank()) {
-            st = stationRepository.findByCode(r.getStationCode()).orElse(null);
-        }
-        String stationName = (st != null) ? st.getName() : null;
-        String stationLine = (st != null) ? st.getLine() : null;
+        StationRegistry.Entry st = stationRegistry.find(r.getStationCode()).orElse(null);
+        String stationName = (st != null) ? st.name() : null;
+        String stationLine = (st != null) ? st.line() : null;
 
-        int total = Optional.ofNullable(rpaRepository.sumByRequestId(slug)).orElse(0L).intValue();
+        // request_totals 1행 조회(추천 제출 시 함께 갱신됨). 행이 없으면 추천 0건
+        int total = totalRepository.findById(slug)
+                .map(t -> (int) t.getTotalRecommendations())
+                .orElse(0);
 
         return new RequestDtos.ListItem(
                 r.getSlug(),
@@ -133,19 +123,12 @@ public class RequestServiceImpl implements RequestService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<RequestDtos.ListItem> list() {
-        final List<Request> requests = requestRepository.findAllByOrderByCreatedAtDesc();
-
-        final List<String> codes = requests.stream()
-                .map(Request::getStationCode)
-                .filter(s -> s != null && !s.isBlank())
-                .distinct()
-                .collect(Collectors.toList());
-
-        final Map<String, Station> stationMap = codes.isEmpty()
-                ? Map.of()
-                : stationRepository.findAllByCodeIn(codes).stream()
-                .collect(Collectors.toMap(Station::getCode, s -> s));
+    public RequestDtos.PageResponse list(String cursor, Integer size) {
+        final int limit = KeysetCursor.clampSize(size);
+        // limit+1개를 읽어 다음 페이지 존재 여부를 판단(COUNT 없음)
+        final List<Request> fetched = requestRepository.findPage(KeysetCursor.decode(cursor), limit + 1);
+        final boolean hasNext = fetched.size() > limit;
+        final List<Request> requests = hasNext ? fetched.subList(0, limit) : fetched;
 
         final List<String> slugs = requests.stream()
                 .map(Request::getSlug)
@@ -153,17 +136,17 @@ public class RequestServiceImpl implements RequestService {
 
         final Map<String, Integer> totalMap =
                 slugs.isEmpty() ? Map.of()
-                        : rpaRepository.sumByRequestIds(slugs).stream()
+                        : totalRepository.findAllByRequestIdIn(slugs).stream()
                         .collect(Collectors.toMap(
-                                RequestPlaceAggregateRepository.SumRow::getRequestId,
-                                row -> row.getTotal() == null ? 0 : row.getTotal().intValue()
+                                RequestTotal::getRequestId,
+                                t -> (int) t.getTotalRecommendations()
                         ));
 
-        return requests.stream()
+        final List<RequestDtos.ListItem> items = requests.stream()
                 .map(r -> {
-                    Station st = stationMap.get(r.getStationCode());
-                    String stationName = (st != null) ? st.getName() : null;
-                    String stationLine = (st != null) ? st.getLine() : null;
+                    StationRegistry.Entry st = stationRegistry.find(r.getStationCode()).orElse(null);
+                    String stationName = (st != null) ? st.name() : null;
+                    String stationLine = (st != null) ? st.line() : null;
                     int total = totalMap.getOrDefault(r.getSlug(), 0);
 
                     return new RequestDtos.ListItem(
@@ -176,6 +159,13 @@ public class RequestServiceImpl implements RequestService {
                     );
                 })
                 .toList();
+
+        String next = null;
+        if (hasNext) {
+            Request last = requests.get(requests.size() - 1);
+            next = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new RequestDtos.PageResponse(items, next);
     }
 
     // ✅ 추가: 요청 슬러그로 오너 닉네임 조회 (읽기 전용)
@@ -193,91 +183,13 @@ public class RequestServiceImpl implements RequestService {
         return new OwnerBrief(uid, nick);
     }
 
-    // --- 이하 유틸/검증 동일 ---
+    // 역 코드 정규화는 StationRegistry(메모리)에서: 코드/레거시 별칭/JSON({"code"} 또는 {"name","line"})
     private String resolveStationCodeOr400(String raw) {
         if (raw == null || raw.trim().isEmpty()) {
             throw new IllegalArgumentException("station_code is required");
         }
-        String s = raw.trim();
-
-        if (LEGACY_ALIAS.containsKey(s)) {
-            return ensureExistsOrThrow(LEGACY_ALIAS.get(s), raw);
-        }
-
-        Optional<Station> byExact = stationRepository.findByCode(s);
-        if (byExact.isPresent()) return byExact.get().getCode();
-
-        if ((s.startsWith("{") && s.endsWith("}")) || s.startsWith("\"{")) {
-            String json = trimQuotesIfNeeded(s);
-
-            String codeFromJson = extract(CODE_P, json);
-            if (codeFromJson != null) {
-                if (LEGACY_ALIAS.containsKey(codeFromJson)) {
-                    return ensureExistsOrThrow(LEGACY_ALIAS.get(codeFromJson), raw);
-                }
-                Optional<Station> byJsonCode = stationRepository.findByCode(codeFromJson);
-                if (byJsonCode.isPresent()) return byJsonCode.get().getCode();
-            }
-
-            String name = extract(NAME_P, json);
-            String line = extract(LINE_P, json);
-
-            if (name != null && line != null) {
-                Optional<Station> byNameLine = stationRepository.findByNameAndLine(name, line);
-                if (byNameLine.isPresent()) return byNameLine.get().getCode();
-
-                for (String cand : lineCandidates(line)) {
-                    Optional<Station> tryCand = stationRepository.findByNameAndLine(name, cand);
-                    if (tryCand.isPresent()) return tryCand.get().getCode();
-                }
-            }
-
-            throw new IllegalArgumentException("invalid station_code: " + raw);
-        }
-
-        if (LEGACY_CODE_P.matcher(s).matches()) {
-            if (LEGACY_ALIAS.containsKey(s)) {
-                return ensureExistsOrThrow(LEGACY_ALIAS.get(s), raw);
-            }
-            Optional<Station> byLegacyAsCode = stationRepository.findByCode(s);
-            if (byLegacyAsCode.isPresent()) return byLegacyAsCode.get().getCode();
-            throw new IllegalArgumentException("invalid station_code: " + raw);
-        }
-
-        throw new IllegalArgumentException("invalid station_code: " + raw);
-    }
-
-    private String ensureExistsOrThrow(String code, String raw) {
-        Optional<Station> st = stationRepository.findByCode(code);
-        if (st.isPresent()) return st.get().getCode();
-        throw new IllegalArgumentException("invalid station_code: " + raw);
-    }
-
-    private String trimQuotesIfNeeded(String s) {
-        if (s.startsWith("\"") && s.endsWith("\"")) {
-            return s.substring(1, s.length() - 1);
-        }
-        return s;
-    }
-
-    private String extract(Pattern p, String src) {
-        Matcher m = p.matcher(src);
-        return m.find() ? m.group(1) : null;
-    }
-
-    private List<String> lineCandidates(String line) {
-        if (line == null) return List.of();
-        String trimmed = line.trim();
-        if (trimmed.matches("^\\d+$")) {
-            return List.of(trimmed, trimmed + "호선");
-        }
-        if (trimmed.endsWith("호선")) {
-            String digits = trimmed.replace("호선", "");
-            if (digits.matches("^\\d+$")) {
-                return List.of(trimmed, digits);
-            }
-        }
-        return List.of(trimmed);
+        return stationRegistry.resolveCode(raw)
+                .orElseThrow(() -> new IllegalArgumentException("invalid station_code: " + raw));
     }
 
     @Override
@@ -287,6 +199,7 @@ public class RequestServiceImpl implements RequestService {
         var req = opt.get();
         if (!req.getOwnerUserId().equals(me)) return DeleteResult.NOT_OWNER;
         requestRepository.delete(req);
+        eventPublisher.publishEvent(new RequestChangedEvent(slug));
         return DeleteResult.OK;
     }
 }
@@ -0,0 +1,41 @@
+package io.github.ssforu.pin4u.features.requests.application;
+
+import io.github.ssforu.pin4u.features.requests.infra.RequestTotalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * request_totals 야간 재계산.
+ * 증분 갱신은 제출 트랜잭션에서 하므로 평소엔 고칠 행이 없어야 한다.
+ * 고친 행이 있으면 증분 경로 누락(직접 SQL 수정, 삭제 등) 신호로 보고 WARN을 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        value = "app.requests.totals.repair.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RequestTotalsRepairJob {
+
+    private final RequestTotalRepository totalRepository;
+
+    public RequestTotalsRepairJob(RequestTotalRepository totalRepository) {
+        this.totalRepository = totalRepository;
+    }
+
+    @Scheduled(cron = "${app.requests.totals.repair.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void repair() {
+        long started = System.currentTimeMillis();
+        int fixed = totalRepository.repairAll();
+        if (fixed > 0) {
+            log.warn("[request-totals] repaired {} rows in {}ms", fixed, System.currentTimeMillis() - started);
+        } else {
+            log.info("[request-totals] consistent ({}ms)", System.currentTimeMillis() - started);
+        }
+    }
+}
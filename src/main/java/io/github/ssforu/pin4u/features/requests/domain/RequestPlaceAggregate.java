@@ -30,6 +30,10 @@ public class RequestPlaceAggregate {
     @Column(name = "version", nullable = false)
     private int version;
 
+    // 요청 역 기준 거리(m). 생성 시 한 번 계산, 좌표를 알 수 없으면 null
+    @Column(name = "distance_m")
+    private Integer distanceM;
+
     @Column(name = "first_recommended_at", nullable = false)
     private OffsetDateTime firstRecommendedAt;
 
@@ -39,8 +43,13 @@ public class RequestPlaceAggregate {
     protected RequestPlaceAggregate() {}
 
     public RequestPlaceAggregate(String requestId, Long placeId) {
+        this(requestId, placeId, null);
+    }
+
+    public RequestPlaceAggregate(String requestId, Long placeId, Integer distanceM) {
         this.requestId = requestId;
         this.placeId = placeId;
+        this.distanceM = distanceM;
     }
 
     @PrePersist
@@ -62,6 +71,7 @@ public class RequestPlaceAggregate {
     public String getRequestId() { return requestId; }
     public Long getPlaceId() { return placeId; }
     public int getRecommendedCount() { return recommendedCount; }
+    public Integer getDistanceM() { return distanceM; }
     public OffsetDateTime getFirstRecommendedAt() { return firstRecommendedAt; }
     public OffsetDateTime getLastRecommendedAt() { return lastRecommendedAt; }
 }
@@ -0,0 +1,32 @@
+package io.github.ssforu.pin4u.features.requests.domain;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요청별 추천 합계(request_totals). 쓰기는 RequestTotalRepository의 원자적 upsert로만 한다.
+ */
+@Entity
+@Table(name = "request_totals")
+@Getter
+@NoArgsConstructor
+public class RequestTotal {
+
+    @Id
+    @Column(name = "request_id", nullable = false, length = 64)
+    private String requestId;
+
+    @Column(name = "total_recommendations", nullable = false)
+    private long totalRecommendations;
+
+    @Column(name = "distinct_places", nullable = false)
+    private int distinctPlaces;
+
+    @Column(name = "last_activity_at")
+    private OffsetDateTime lastActivityAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
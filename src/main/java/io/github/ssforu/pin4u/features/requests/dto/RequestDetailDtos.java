@@ -68,4 +68,33 @@ public final class RequestDetailDtos {
             List<Item> items,
             @JsonInclude(JsonInclude.Include.NON_NULL) GroupBrief group
     ) {}
+
+    // 추천 순위(GET /api/requests/{slug}/ranking): 상세와 같은 정렬(추천 수↓, 거리↑)의 상위 K
+    public record RankingItem(
+            int rank,
+            String externalId,
+            String placeName,
+            Integer distanceM,
+            @JsonProperty("recommended_count") int recommendedCount
+    ) {}
+
+    public record RankingResponse(
+            String slug,
+            List<RankingItem> items
+    ) {}
+
+    // SSE(GET /api/requests/{slug}/events) 델타. place_added / count_changed
+    public record PlaceDelta(
+            String externalId,
+            String placeName,
+            Integer distanceM,
+            @JsonProperty("recommended_count") int recommendedCount
+    ) {}
+
+    // summary_ready
+    public record SummaryDelta(
+            String externalId,
+            SummaryStatus summaryStatus,
+            String summaryText
+    ) {}
 }
@@ -36,4 +36,8 @@ public final class RequestDtos {
     ) {}
 
     public record ListResponse(List<ListItem> items, int count) {}
+
+    // 키셋 페이지: next_cursor가 null이면 마지막 페이지
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record PageResponse(List<ListItem> items, String nextCursor) {}
 }
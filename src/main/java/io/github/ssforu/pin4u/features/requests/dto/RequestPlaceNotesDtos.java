@@ -16,8 +16,10 @@ public final class RequestPlaceNotesDtos {
     ) {}
 
     // CreateRequest 내부에서 사용하는 장소 ID 래퍼
+    // placeId가 없으면 externalId로 해석(write-free 검색 결과는 이때 places로 승격)
     public record PlaceItem(
-            Long placeId
+            Long placeId,
+            String externalId
     ) {}
 
     public record Note(
@@ -0,0 +1,15 @@
+package io.github.ssforu.pin4u.features.requests.event;
+
+import java.util.List;
+
+/**
+ * 추천 제출로 집계행의 recommended_count가 올랐음을 알린다. 값은 증가 후 절대값(합치기 모드에서는 근사치).
+ * 커밋 이후 순위 보드(RequestLeaderboard) 갱신, SSE 델타(RequestEventHub)에 사용.
+ * added: 이번 제출이 이 장소의 첫 추천(증가 전 0)이었는지
+ */
+public record PlaceRecommendedEvent(
+        String requestSlug,
+        List<Place> places
+) {
+    public record Place(String externalId, String placeName, Integer distanceM, int recommendedCount, boolean added) {}
+}
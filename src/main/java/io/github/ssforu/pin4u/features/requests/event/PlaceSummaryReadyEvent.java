@@ -0,0 +1,14 @@
+package io.github.ssforu.pin4u.features.requests.event;
+
+import java.util.List;
+
+/**
+ * 장소 AI 요약이 새로 저장되었음을 알린다. requestSlugs: 이 장소가 포함된 요청들.
+ * 커밋 이후 SSE 델타(RequestEventHub)에 사용.
+ */
+public record PlaceSummaryReadyEvent(
+        String externalId,
+        String summaryText,
+        List<String> requestSlugs
+) {
+}
@@ -0,0 +1,10 @@
+package io.github.ssforu.pin4u.features.requests.event;
+
+/**
+ * 요청(slug)의 상세 화면에 보이는 데이터(집계·노트·요약·요청 자체)가 바뀌었음을 알린다.
+ * 커밋 이후 캐시 무효화 등에 사용.
+ */
+public record RequestChangedEvent(
+        String requestSlug
+) {
+}
@@ -0,0 +1,20 @@
+package io.github.ssforu.pin4u.features.requests.event;
+
+import io.github.ssforu.pin4u.features.requests.application.RequestDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class RequestChangedEventListener {
+
+    private final RequestDetailCache requestDetailCache;
+
+    // 커밋 이후에만 무효화(롤백된 쓰기로 캐시를 비우지 않음). 트랜잭션 밖 발행은 즉시 처리.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRequestChanged(RequestChangedEvent event) {
+        requestDetailCache.invalidate(event.requestSlug());
+    }
+}
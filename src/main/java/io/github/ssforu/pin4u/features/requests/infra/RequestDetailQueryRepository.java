@@ -3,6 +3,7 @@ package io.github.ssforu.pin4u.features.requests.infra;
 import io.github.ssforu.pin4u.features.places.domain.Place;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
@@ -33,6 +34,30 @@ public interface RequestDetailQueryRepository extends Repository<Place, Long> {
         OffsetDateTime getAi_updated_at();
     }
 
+    interface RankRow {
+        String getExternal_id();
+        String getPlace_name();
+        Integer getDistance_m();
+        Integer getRecommended_count();
+    }
+
+    // 순위 보드(RequestLeaderboard) 시드: 상세와 같은 정렬, mock/요약 조인 없이 places만
+    @Query(value = """
+    SELECT
+        p.external_id         AS external_id,
+        p.place_name          AS place_name,
+        rpa.distance_m        AS distance_m,
+        rpa.recommended_count AS recommended_count
+    FROM request_place_aggregates rpa
+    JOIN places p ON p.id = rpa.place_id
+    WHERE rpa.request_id = :slug
+    ORDER BY rpa.recommended_count DESC, rpa.distance_m ASC
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<RankRow> findRankingBySlug(@Param("slug") String slug, @Param("limit") int limit);
+
+    // distance_m: 집계행 생성 시 저장된 값(V26). WHERE + ORDER BY가 idx_rpa_request_recommend_dist 순서와 같아
+    // 상위 N개를 정렬 없이 인덱스 순서로 읽고 나머지 테이블은 N행만 조인한다.
     @Query(value = """
     SELECT
         p.external_id                                           AS external_id,
@@ -47,15 +72,7 @@ public interface RequestDetailQueryRepository extends Repository<Place, Long> {
         CAST(p.y AS TEXT)                                       AS y,
         p.place_url                                             AS place_url,
         rpa.recommended_count                                   AS recommended_count,
-        ROUND(
-          6371000 * 2 * ASIN(
-            SQRT(
-              POWER(SIN(RADIANS( ((p.y)::double precision - (s.lat)::double precision) / 2 )), 2) +
-              COS(RADIANS((s.lat)::double precision)) * COS(RADIANS((p.y)::double precision)) *
-              POWER(SIN(RADIANS( ((p.x)::double precision - (s.lng)::double precision) / 2 )), 2)
-            )
-          )
-        )::INT                                                  AS distance_m,
+        rpa.distance_m                                          AS distance_m,
         pm.rating                                               AS mock_rating,
         pm.rating_count                                         AS mock_rating_count,
         CAST(pm.image_urls AS TEXT)                             AS mock_image_urls_json,
@@ -64,15 +81,79 @@ public interface RequestDetailQueryRepository extends Repository<Place, Long> {
         ps.summary_text                                        AS ai_summary_text,
         ps.evidence                                            AS ai_evidence_json,
         ps.updated_at                                          AS ai_updated_at
-    FROM requests r
-    JOIN stations s               ON s.code = r.station_code
-    JOIN request_place_aggregates rpa ON rpa.request_id = r.slug
+    FROM request_place_aggregates rpa
     JOIN places p                 ON p.id = rpa.place_id
     LEFT JOIN place_mock pm       ON pm.external_id = p.external_id
     LEFT JOIN place_summaries ps  ON ps.place_id = p.id
-    WHERE r.slug = :slug
-    ORDER BY rpa.recommended_count DESC, distance_m ASC
+    WHERE rpa.request_id = :slug
+    ORDER BY rpa.recommended_count DESC, rpa.distance_m ASC
     LIMIT :limit
     """, nativeQuery = true)
     List<Row> findItemsBySlug(@Param("slug") String slug, @Param("limit") int limit);
+
+    /**
+     * DB 렌더 모드(?render=db): 상세 응답 data 문서 전체를 한 문장으로 만들어 JSON 텍스트로 돌려준다.
+     * 키/값 규칙은 RequestDetailResponse의 Jackson 직렬화와 같다(camelCase, recommended_count, mock/ai는 없으면 키 생략).
+     * mock 컬럼은 TEXT(V19)라 JSON 형식이 깨진 값은 PlaceMockCache.parseList처럼 null로 취급한다.
+     * 요청 또는 역이 없으면 행이 없다.
+     */
+    @Query(value = """
+    SELECT json_build_object(
+        'slug',           r.slug,
+        'station',        json_build_object('code', s.code, 'name', s.name, 'line', s.line, 'lat', s.lat, 'lng', s.lng),
+        'requestMessage', r.request_message,
+        'items',          COALESCE(items.docs, '[]'::json)
+    )::text
+    FROM requests r
+    JOIN stations s ON s.code = r.station_code
+    LEFT JOIN LATERAL (
+        SELECT json_agg(doc ORDER BY ord) AS docs
+        FROM (
+            SELECT
+                row_number() OVER (ORDER BY rpa.recommended_count DESC, rpa.distance_m ASC) AS ord,
+                jsonb_build_object(
+                    'externalId',        p.external_id,
+                    'id',                split_part(p.external_id, ':', 2),
+                    'placeName',         p.place_name,
+                    'categoryGroupCode', p.category_group_code,
+                    'categoryGroupName', p.category_group_name,
+                    'categoryName',      p.category_name,
+                    'addressName',       p.address_name,
+                    'roadAddressName',   p.road_address_name,
+                    'x',                 CAST(p.x AS TEXT),
+                    'y',                 CAST(p.y AS TEXT),
+                    'distanceM',         rpa.distance_m,
+                    'placeUrl',          p.place_url,
+                    'summaryStatus',     CASE WHEN NULLIF(btrim(ps.summary_text), '') IS NOT NULL
+                                              THEN 'READY' ELSE 'PENDING' END,
+                    'recommended_count', rpa.recommended_count
+                )
+                || CASE WHEN pm.rating IS NOT NULL OR pm.rating_count IS NOT NULL
+                              OR pm.image_urls IS NOT NULL OR pm.opening_hours IS NOT NULL
+                        THEN jsonb_build_object('mock', jsonb_build_object(
+                            'rating',       pm.rating,
+                            'ratingCount',  pm.rating_count,
+                            'imageUrls',    CASE WHEN pg_input_is_valid(pm.image_urls, 'jsonb')
+                                                 THEN pm.image_urls::jsonb END,
+                            'openingHours', CASE WHEN pg_input_is_valid(pm.opening_hours, 'jsonb')
+                                                 THEN pm.opening_hours::jsonb END))
+                        ELSE '{}'::jsonb END
+                || CASE WHEN NULLIF(btrim(ps.summary_text), '') IS NOT NULL
+                        THEN jsonb_build_object('ai', jsonb_build_object(
+                            'summaryText', ps.summary_text,
+                            'evidence',    ps.evidence,
+                            'updatedAt',   ps.updated_at))
+                        ELSE '{}'::jsonb END AS doc
+            FROM request_place_aggregates rpa
+            JOIN places p                ON p.id = rpa.place_id
+            LEFT JOIN place_mock pm      ON pm.external_id = p.external_id
+            LEFT JOIN place_summaries ps ON ps.place_id = p.id
+            WHERE rpa.request_id = r.slug
+            ORDER BY rpa.recommended_count DESC, rpa.distance_m ASC
+            LIMIT :limit
+        ) ranked
+    ) items ON true
+    WHERE r.slug = :slug
+    """, nativeQuery = true)
+    Optional<String> renderDetailJsonBySlug(@Param("slug") String slug, @Param("limit") int limit);
 }
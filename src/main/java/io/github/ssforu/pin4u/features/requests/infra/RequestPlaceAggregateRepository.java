@@ -1,12 +1,14 @@
 package io.github.ssforu.pin4u.features.requests.infra;
 
 import io.github.ssforu.pin4u.features.requests.domain.RequestPlaceAggregate;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface RequestPlaceAggregateRepository extends JpaRepository<RequestPlaceAggregate, Long> {
 
@@ -15,25 +17,29 @@ public interface RequestPlaceAggregateRepository extends JpaRepository<RequestPl
     // [Theme 2] 요청에 포함된 모든 장소 조회 (요약 생성 대상)
     List<RequestPlaceAggregate> findAllByRequestId(String requestId);
 
-    interface SumRow {
-        String getRequestId();
-        Long getTotal();
-    }
-
-    @Query("""
-           select a.requestId as requestId, sum(a.recommendedCount) as total
-             from RequestPlaceAggregate a
-            where a.requestId in :requestIds
-            group by a.requestId
-           """)
-    List<SumRow> sumByRequestIds(@Param("requestIds") List<String> requestIds);
-
-    @Query("""
-           select coalesce(sum(a.recommendedCount), 0)
-             from RequestPlaceAggregate a
-            where a.requestId = :requestId
-           """)
-    Long sumByRequestId(@Param("requestId") String requestId);
+    // 장소 단위 변경(요약 생성 등)이 영향을 주는 요청 slug 목록
+    @Query("select distinct a.requestId from RequestPlaceAggregate a where a.placeId = :placeId")
+    List<String> findRequestIdsByPlaceId(@Param("placeId") Long placeId);
+
+    // 거리 미기록 집계행을 요청 역 기준으로 한 번에 채운다(등장방형 근사, GeoDistance와 같은 식)
+    @Modifying
+    @Query(value = """
+           UPDATE request_place_aggregates rpa
+           SET distance_m = ROUND(
+                   SQRT(
+                     POWER(((p.y)::double precision - (s.lat)::double precision) * 111194.93, 2) +
+                     POWER(((p.x)::double precision - (s.lng)::double precision) * 111194.93
+                           * COS(RADIANS((s.lat)::double precision)), 2)
+                   )
+               )::INT
+           FROM requests r, stations s, places p
+           WHERE rpa.request_id = :requestId
+             AND rpa.distance_m IS NULL
+             AND r.slug = rpa.request_id
+             AND s.code = r.station_code
+             AND p.id = rpa.place_id
+           """, nativeQuery = true)
+    int fillMissingDistances(@Param("requestId") String requestId);
 
     @Modifying
     @Query(value = """
@@ -43,4 +49,51 @@ public interface RequestPlaceAggregateRepository extends JpaRepository<RequestPl
            WHERE request_id = :requestId AND place_id = :placeId
            """, nativeQuery = true)
     int atomicIncrementCount(@Param("requestId") String requestId, @Param("placeId") Long placeId);
+
+    /**
+     * 합치기 모드 복구: (since, until] 사이에 노트가 들어온 집계행만 노트 수로 올려 맞추고,
+     * 올린 만큼 request_totals에도 더한다. 고친 집계행 수를 돌려준다.
+     * - flush 전에 잃은 증가분은 카운트를 낮추기만 하므로 올리는 방향만 고친다(노트 도입 전 레거시 카운트는 건드리지 않는다)
+     * - until 이후 노트가 있는 행은 아직 반영 안 된 증가분이 있을 수 있어 건너뛴다
+     * - 스냅샷 이후 flush가 커밋된 행은 seen 값과 달라져 건너뛴다(다음 실행에서 고친다)
+     * 데이터 변경 CTE라 @Modifying(executeUpdate) 대신 고친 행 수를 SELECT로 받는다.
+     */
+    @Transactional
+    @Query(value = """
+           WITH touched AS (
+               SELECT DISTINCT n.rpa_id
+                 FROM recommendation_notes n
+                WHERE n.created_at > :since AND n.created_at <= :until
+           ),
+           c AS (
+               SELECT a.id, a.request_id, a.recommended_count AS seen, COUNT(n.id)::INT AS cnt
+                 FROM touched t
+                 JOIN request_place_aggregates a ON a.id = t.rpa_id
+                 JOIN recommendation_notes n ON n.rpa_id = a.id
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM recommendation_notes r
+                     WHERE r.rpa_id = a.id AND r.created_at > :until
+                )
+                GROUP BY a.id, a.request_id, a.recommended_count
+               HAVING COUNT(n.id) > a.recommended_count
+           ),
+           fixed AS (
+               UPDATE request_place_aggregates a
+                  SET recommended_count = c.cnt
+                 FROM c
+                WHERE a.id = c.id
+                  AND a.recommended_count = c.seen
+               RETURNING a.request_id, c.cnt - c.seen AS diff
+           ),
+           totals AS (
+               UPDATE request_totals t
+                  SET total_recommendations = t.total_recommendations + s.diff,
+                      updated_at            = now()
+                 FROM (SELECT request_id, SUM(diff) AS diff FROM fixed GROUP BY request_id) s
+                WHERE t.request_id = s.request_id
+               RETURNING t.request_id
+           )
+           SELECT CAST((SELECT COUNT(*) FROM fixed) AS int)
+           """, nativeQuery = true)
+    int reconcileCountsFromNotes(@Param("since") Instant since, @Param("until") Instant until);
 }
@@ -1,6 +1,8 @@
 package io.github.ssforu.pin4u.features.requests.infra;
 
+import io.github.ssforu.pin4u.common.util.KeysetCursor;
 import io.github.ssforu.pin4u.features.requests.domain.Request;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,14 +12,65 @@ import org.springframework.data.repository.query.Param;
 public interface RequestRepository extends JpaRepository<Request, Long> {
     Optional<Request> findBySlug(String slug);
 
-    // 목록 화면 정렬 — created_at 역정렬
-    List<Request> findAllByOrderByCreatedAtDesc();
-
     // 홈 대시보드: 내 요청(전체)
     List<Request> findAllByOwnerUserIdOrderByCreatedAtDesc(Long ownerUserId);
 
-    // ✅ 홈 대시보드: '개인지도'만 — group_id IS NULL
-    List<Request> findAllByOwnerUserIdAndGroupIdIsNullOrderByCreatedAtDesc(Long ownerUserId);
+    // 목록 키셋 페이지: (created_at, id) 역순. idx_requests_created_id 사용
+    @Query(value = """
+        SELECT * FROM requests
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Request> findFirstPage(@Param("limit") int limit);
+
+    @Query(value = """
+        SELECT * FROM requests
+        WHERE (created_at, id) < (:createdAt, :id)
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Request> findPageAfter(
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") long id,
+            @Param("limit") int limit
+    );
+
+    // 홈 대시보드 개인지도 키셋 페이지: idx_requests_owner_personal (owner_user_id, created_at DESC, id DESC)
+    @Query(value = """
+        SELECT * FROM requests
+        WHERE owner_user_id = :ownerUserId AND group_id IS NULL
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Request> findPersonalFirstPage(@Param("ownerUserId") Long ownerUserId, @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT * FROM requests
+        WHERE owner_user_id = :ownerUserId AND group_id IS NULL
+          AND (created_at, id) < (:createdAt, :id)
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Request> findPersonalPageAfter(
+            @Param("ownerUserId") Long ownerUserId,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") long id,
+            @Param("limit") int limit
+    );
+
+    /** 목록 한 페이지(cursor == null이면 첫 페이지) */
+    default List<Request> findPage(KeysetCursor cursor, int limit) {
+        return cursor == null
+                ? findFirstPage(limit)
+                : findPageAfter(cursor.createdAt(), cursor.id(), limit);
+    }
+
+    /** 홈 대시보드: '개인지도'(group_id IS NULL) 한 페이지 */
+    default List<Request> findPersonalPage(Long ownerUserId, KeysetCursor cursor, int limit) {
+        return cursor == null
+                ? findPersonalFirstPage(ownerUserId, limit)
+                : findPersonalPageAfter(ownerUserId, cursor.createdAt(), cursor.id(), limit);
+    }
 
     // 그룹지도: 특정 그룹의 요청들
     List<Request> findAllByGroupId(Long groupId);
@@ -0,0 +1,81 @@
+package io.github.ssforu.pin4u.features.requests.infra;
+
+import io.github.ssforu.pin4u.features.requests.domain.RequestTotal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RequestTotalRepository extends JpaRepository<RequestTotal, String> {
+
+    List<RequestTotal> findAllByRequestIdIn(Collection<String> requestIds);
+
+    /**
+     * 추천/집계행 생성과 같은 트랜잭션에서 증분 반영. 행이 없으면 만든다.
+     * recommendations: 추천 수 증가분, places: 새 집계행(장소) 수
+     */
+    @Modifying
+    @Query(value = """
+           INSERT INTO request_totals (request_id, total_recommendations, distinct_places, last_activity_at, updated_at)
+           VALUES (:requestId, :recommendations, :places, now(), now())
+           ON CONFLICT (request_id) DO UPDATE
+              SET total_recommendations = request_totals.total_recommendations + EXCLUDED.total_recommendations,
+                  distinct_places       = request_totals.distinct_places + EXCLUDED.distinct_places,
+                  last_activity_at      = now(),
+                  updated_at            = now()
+           """, nativeQuery = true)
+    int increment(@Param("requestId") String requestId,
+                  @Param("recommendations") long recommendations,
+                  @Param("places") int places);
+
+    /**
+     * request_place_aggregates 기준 재계산. 값이 다른 행만 덮어쓰고 고친 행 수를 돌려준다.
+     * 집계행이 없는 요청은 행이 없어도 0으로 읽히므로 대상에서 뺀다.
+     * 스냅샷 이후 increment가 커밋된 행은 건너뛴다: UPDATE는 잠금 대기 후 최신 행으로 WHERE를 다시 평가하므로
+     * 스냅샷에서 읽은 값(seen_*)과 달라졌으면 옛 합계로 덮어쓰지 않는다. 건너뛴 행은 다음 실행에서 고친다.
+     * 데이터 변경 CTE라 @Modifying(executeUpdate) 대신 고친 행 수를 SELECT로 받는다.
+     */
+    @Transactional
+    @Query(value = """
+           WITH fresh AS (
+               SELECT a.request_id,
+                      SUM(a.recommended_count)  AS total,
+                      COUNT(*)                  AS places,
+                      MAX(a.last_recommended_at) AS last_at,
+                      t.total_recommendations   AS seen_total,
+                      t.distinct_places         AS seen_places,
+                      t.updated_at              AS seen_updated_at
+                 FROM request_place_aggregates a
+                 JOIN requests r ON r.slug = a.request_id
+                 LEFT JOIN request_totals t ON t.request_id = a.request_id
+                GROUP BY a.request_id, t.total_recommendations, t.distinct_places, t.updated_at
+           ),
+           upd AS (
+               UPDATE request_totals t
+                  SET total_recommendations = f.total,
+                      distinct_places       = f.places,
+                      last_activity_at      = f.last_at,
+                      updated_at            = now()
+                 FROM fresh f
+                WHERE t.request_id = f.request_id
+                  AND (f.seen_total <> f.total OR f.seen_places <> f.places)
+                  AND t.total_recommendations = f.seen_total
+                  AND t.distinct_places       = f.seen_places
+                  AND t.updated_at            = f.seen_updated_at
+               RETURNING 1
+           ),
+           ins AS (
+               INSERT INTO request_totals (request_id, total_recommendations, distinct_places, last_activity_at, updated_at)
+               SELECT f.request_id, f.total, f.places, f.last_at, now()
+                 FROM fresh f
+                WHERE f.seen_updated_at IS NULL
+               ON CONFLICT (request_id) DO NOTHING
+               RETURNING 1
+           )
+           SELECT CAST((SELECT COUNT(*) FROM upd) + (SELECT COUNT(*) FROM ins) AS int)
+           """, nativeQuery = true)
+    int repairAll();
+}
@@ -0,0 +1,42 @@
+package io.github.ssforu.pin4u.features.requests.infra;
+
+import io.github.ssforu.pin4u.features.places.domain.Place;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 조건부 GET(ETag)용 버전 토큰.
+ * 상세/노트 응답을 만드는 대신 응답을 바꾸는 값들(집계 카운트·버전·최근 추천 시각, 노트 수, 요약/장소/mock 갱신 시각)만
+ * 인덱스(idx_rpa_request, idx_notes_rpa, place_summaries.place_id, places PK, place_mock PK)로 모아 md5 한 줄로 돌려준다.
+ * 장소 갱신 시각: 카카오 upsert가 이름·주소·URL을 바꾸면 places.updated_at이 오른다.
+ */
+public interface RequestVersionQueryRepository extends Repository<Place, Long> {
+
+    @Query(value = """
+    SELECT md5(concat_ws('|',
+             r.slug, r.station_code, md5(r.request_message),
+             COUNT(a.id), COALESCE(SUM(a.recommended_count), 0), COALESCE(SUM(a.version), 0),
+             MAX(a.last_recommended_at),
+             (SELECT concat_ws(',', COUNT(n.id), MAX(n.id))
+                FROM recommendation_notes n
+                JOIN request_place_aggregates na ON na.id = n.rpa_id
+               WHERE na.request_id = r.slug),
+             (SELECT MAX(ps.updated_at)
+                FROM place_summaries ps
+                JOIN request_place_aggregates sa ON sa.place_id = ps.place_id
+               WHERE sa.request_id = r.slug),
+             (SELECT concat_ws(',', MAX(p.updated_at), MAX(pm.updated_at))
+                FROM request_place_aggregates ma
+                JOIN places p ON p.id = ma.place_id
+                LEFT JOIN place_mock pm ON pm.external_id = p.external_id
+               WHERE ma.request_id = r.slug)
+           ))
+      FROM requests r
+      LEFT JOIN request_place_aggregates a ON a.request_id = r.slug
+     WHERE r.slug = :slug
+     GROUP BY r.slug, r.station_code, r.request_message
+    """, nativeQuery = true)
+    Optional<String> findVersionTokenBySlug(@Param("slug") String slug);
+}
@@ -0,0 +1,34 @@
+package io.github.ssforu.pin4u.features.stations.api;
+
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운영용 역 레지스트리 조회/재적재(관리 포트 전용).
+ * GET  /actuator/stations  → 적재된 역 수
+ * POST /actuator/stations  → DB에서 다시 읽어 스냅샷 교체
+ */
+@Component
+@Endpoint(id = "stations")
+public class StationRegistryEndpoint {
+
+    private final StationRegistry registry;
+
+    public StationRegistryEndpoint(StationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> info() {
+        return Map.of("size", registry.size());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return Map.of("reloaded", registry.reload());
+    }
+}
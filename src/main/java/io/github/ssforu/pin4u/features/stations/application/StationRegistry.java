@@ -0,0 +1,177 @@
+package io.github.ssforu.pin4u.features.stations.application;
+
+import io.github.ssforu.pin4u.common.util.GeoDistance;
+import io.github.ssforu.pin4u.features.stations.domain.Station;
+import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 역 메모리 레지스트리(수백 건).
+ * code → 역, (name, line) → code, 레거시 별칭을 불변 맵 스냅샷으로 들고 있고, 조회 경로는 DB를 타지 않는다.
+ * 좌표는 double로 미리 변환하고 GeoDistance.Origin(cos 위도)까지 만들어 둔다.
+ * 갱신은 reload()로 새 스냅샷을 만들어 volatile 참조만 교체한다(StationCsvImportRunner, actuator stations 엔드포인트).
+ */
+@Slf4j
+@Component
+public class StationRegistry {
+
+    // 과거 클라이언트가 보내던 역 코드 → 현재 코드
+    private static final Map<String, String> LEGACY_ALIAS = Map.of(
+            "7-733", "S0701"
+    );
+
+    private static final Pattern CODE_P = Pattern.compile("\\\"code\\\"\\s*:\\s*\\\"([^\\\"]+)\\\"");
+    private static final Pattern NAME_P = Pattern.compile("\\\"name\\\"\\s*:\\s*\\\"([^\\\"]+)\\\"");
+    private static final Pattern LINE_P = Pattern.compile("\\\"line\\\"\\s*:\\s*\\\"?([0-9A-Za-z가-힣]+)\\\"?");
+
+    public record Entry(String code, String name, String line, BigDecimal lat, BigDecimal lng,
+                        double latDeg, double lngDeg, GeoDistance.Origin origin) {
+
+        static Entry of(Station s) {
+            double lat = s.getLat().doubleValue();
+            double lng = s.getLng().doubleValue();
+            return new Entry(s.getCode(), s.getName(), s.getLine(), s.getLat(), s.getLng(),
+                    lat, lng, GeoDistance.origin(lat, lng));
+        }
+    }
+
+    private record Snapshot(Map<String, Entry> byCode, Map<String, String> codeByNameLine) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+    }
+
+    private final StationRepository stationRepository;
+    private volatile Snapshot snapshot;
+
+    public StationRegistry(StationRepository stationRepository) {
+        this.stationRepository = stationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        snapshot();
+    }
+
+    /** DB에서 다시 읽어 스냅샷 교체. 반환: 적재된 역 수 */
+    public synchronized int reload() {
+        List<Station> all = stationRepository.findAll();
+        Map<String, Entry> byCode = new HashMap<>(all.size() * 2);
+        Map<String, String> byNameLine = new HashMap<>(all.size() * 2);
+        for (Station s : all) {
+            if (s.getCode() == null || s.getLat() == null || s.getLng() == null) continue;
+            byCode.put(s.getCode(), Entry.of(s));
+            byNameLine.putIfAbsent(nameLineKey(s.getName(), s.getLine()), s.getCode());
+        }
+        snapshot = new Snapshot(Map.copyOf(byCode), Map.copyOf(byNameLine));
+        log.info("[stations] registry loaded: {} stations", byCode.size());
+        return byCode.size();
+    }
+
+    public Optional<Entry> find(String code) {
+        if (code == null) return Optional.empty();
+        return Optional.ofNullable(snapshot().byCode().get(code));
+    }
+
+    public boolean contains(String code) {
+        return code != null && snapshot().byCode().containsKey(code);
+    }
+
+    public int size() {
+        return snapshot().byCode().size();
+    }
+
+    /**
+     * 클라이언트가 보낸 역 식별자를 현재 코드로 정규화.
+     * 허용 형식: 코드 그대로, 레거시 코드(별칭), JSON 문자열({"code"} 또는 {"name","line"}).
+     */
+    public Optional<String> resolveCode(String raw) {
+        if (raw == null || raw.isBlank()) return Optional.empty();
+        String s = raw.trim();
+
+        String direct = codeOrAlias(s);
+        if (direct != null) return Optional.of(direct);
+
+        if ((s.startsWith("{") && s.endsWith("}")) || s.startsWith("\"{")) {
+            String json = trimQuotesIfNeeded(s);
+
+            String codeFromJson = extract(CODE_P, json);
+            if (codeFromJson != null) {
+                String c = codeOrAlias(codeFromJson);
+                if (c != null) return Optional.of(c);
+            }
+
+            String name = extract(NAME_P, json);
+            String line = extract(LINE_P, json);
+            if (name != null && line != null) {
+                Map<String, String> byNameLine = snapshot().codeByNameLine();
+                for (String cand : lineCandidates(line)) {
+                    String c = byNameLine.get(nameLineKey(name, cand));
+                    if (c != null) return Optional.of(c);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s != null) return s;
+        synchronized (this) {
+            if (snapshot == null) {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    // DB 미기동 등: 빈 스냅샷을 고정하지 않고 다음 호출에서 재시도
+                    log.warn("[stations] registry load failed: {}", e.toString());
+                    return Snapshot.EMPTY;
+                }
+            }
+            return snapshot;
+        }
+    }
+
+    private String codeOrAlias(String code) {
+        String alias = LEGACY_ALIAS.get(code);
+        String c = (alias != null) ? alias : code;
+        return snapshot().byCode().containsKey(c) ? c : null;
+    }
+
+    private static String nameLineKey(String name, String line) {
+        return name + '\u0000' + line;
+    }
+
+    private static String trimQuotesIfNeeded(String s) {
+        if (s.startsWith("\"") && s.endsWith("\"")) {
+            return s.substring(1, s.length() - 1);
+        }
+        return s;
+    }
+
+    private static String extract(Pattern p, String src) {
+        Matcher m = p.matcher(src);
+        return m.find() ? m.group(1) : null;
+    }
+
+    private static List<String> lineCandidates(String line) {
+        String trimmed = line.trim();
+        if (trimmed.matches("^\\d+$")) {
+            return List.of(trimmed, trimmed + "호선");
+        }
+        if (trimmed.endsWith("호선")) {
+            String digits = trimmed.replace("호선", "");
+            if (digits.matches("^\\d+$")) {
+                return List.of(trimmed, digits);
+            }
+        }
+        return List.of(trimmed);
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.ssforu.pin4u.features.stations.infra;
 
+import io.github.ssforu.pin4u.features.stations.application.StationRegistry;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
@@ -35,6 +36,7 @@ public class StationCsvImportRunner implements ApplicationRunner {
 
     private final JdbcTemplate jdbc;
     private final ResourceLoader resourceLoader;
+    private final StationRegistry registry;
 
     @Value("${app.stations.seed.csv-path:}")
     private String csvPath;
@@ -92,6 +94,9 @@ public class StationCsvImportRunner implements ApplicationRunner {
         });
 
         log.info("[stations] 벌크 upsert 완료: {}건 처리", results.length);
+
+        // 조회 경로는 레지스트리만 보므로 주입 직후 스냅샷 교체
+        registry.reload();
     }
 
     private List<StationRow> parseCsv(Resource csv) throws Exception {
@@ -0,0 +1,19 @@
+-- V24: 요청별 추천 합계 구체화 테이블
+-- 목록/홈 화면이 매 조회마다 request_place_aggregates를 GROUP BY 하지 않도록
+-- 추천 제출 트랜잭션에서 함께 갱신한다. 어긋남은 야간 repair 작업이 재계산으로 바로잡는다.
+CREATE TABLE IF NOT EXISTS request_totals (
+    request_id              VARCHAR(64) PRIMARY KEY
+                            REFERENCES requests (slug) ON DELETE CASCADE,
+    total_recommendations   BIGINT NOT NULL DEFAULT 0,
+    distinct_places         INT NOT NULL DEFAULT 0,
+    last_activity_at        TIMESTAMPTZ,
+    updated_at              TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- 백필: 기존 집계행 기준
+INSERT INTO request_totals (request_id, total_recommendations, distinct_places, last_activity_at, updated_at)
+SELECT a.request_id, SUM(a.recommended_count), COUNT(*), MAX(a.last_recommended_at), now()
+FROM request_place_aggregates a
+JOIN requests r ON r.slug = a.request_id
+GROUP BY a.request_id
+ON CONFLICT (request_id) DO NOTHING;
@@ -0,0 +1,9 @@
+-- V25: 요청 목록/홈 대시보드 키셋 페이지네이션 인덱스
+-- ORDER BY created_at DESC, id DESC + (created_at, id) < (?, ?) 를 인덱스 범위 스캔으로 처리
+CREATE INDEX IF NOT EXISTS idx_requests_created_id
+    ON requests (created_at DESC, id DESC);
+
+-- 개인지도(group_id IS NULL) 부분 인덱스에 id를 더해 동일 시각 요청도 정렬 키가 유일하게
+DROP INDEX IF EXISTS idx_requests_owner_personal;
+CREATE INDEX IF NOT EXISTS idx_requests_owner_personal
+    ON requests (owner_user_id, created_at DESC, id DESC) WHERE group_id IS NULL;
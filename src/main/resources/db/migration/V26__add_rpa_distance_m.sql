@@ -0,0 +1,25 @@
+-- V26: 집계행에 역 기준 거리(m) 저장
+-- 요청의 역은 바뀌지 않으므로 집계행 생성 시 한 번만 계산한다.
+-- 상세 조회는 (request_id, recommended_count DESC, distance_m) 인덱스 순서대로 읽고 행마다 삼각함수를 계산하지 않는다.
+ALTER TABLE request_place_aggregates
+    ADD COLUMN IF NOT EXISTS distance_m INT;
+
+-- 백필: 등장방형 근사(GeoDistance와 같은 식, 111194.93 = 위도 1도의 m)
+UPDATE request_place_aggregates rpa
+SET distance_m = ROUND(
+        SQRT(
+          POWER(((p.y)::double precision - (s.lat)::double precision) * 111194.93, 2) +
+          POWER(((p.x)::double precision - (s.lng)::double precision) * 111194.93
+                * COS(RADIANS((s.lat)::double precision)), 2)
+        )
+    )::INT
+FROM requests r, stations s, places p
+WHERE r.slug = rpa.request_id
+  AND s.code = r.station_code
+  AND p.id = rpa.place_id
+  AND rpa.distance_m IS NULL;
+
+-- idx_rpa_request_recommend(request_id, recommended_count DESC)는 새 인덱스의 접두사라 대체
+CREATE INDEX IF NOT EXISTS idx_rpa_request_recommend_dist
+    ON request_place_aggregates (request_id, recommended_count DESC, distance_m);
+DROP INDEX IF EXISTS idx_rpa_request_recommend;
@@ -0,0 +1,38 @@
+-- V27: 같은 집계행(rpa)에는 게스트당 추천 1건 — 애플리케이션의 exists 검사를 제약으로 옮긴다.
+-- 이 마이그레이션은 기존 중복만 정리한다. 유니크 인덱스는 notes 잠금을 피하려 V29에서 CONCURRENTLY로 만든다.
+
+-- 보정 대상 요청(request_totals 재계산용)
+CREATE TEMP TABLE v27_touched_requests (request_id VARCHAR(64) PRIMARY KEY) ON COMMIT DROP;
+
+-- 경합으로 이미 생긴 중복은 가장 먼저 쓴 1건만 남기고, 그만큼 recommended_count도 되돌린다
+WITH dup AS (
+    DELETE FROM recommendation_notes n
+    USING recommendation_notes keep
+    WHERE keep.rpa_id = n.rpa_id
+      AND keep.guest_id = n.guest_id
+      AND keep.id < n.id
+    RETURNING n.rpa_id
+), removed AS (
+    SELECT rpa_id, COUNT(*) AS cnt FROM dup GROUP BY rpa_id
+), fixed AS (
+    UPDATE request_place_aggregates a
+    SET recommended_count = GREATEST(a.recommended_count - r.cnt, 0)
+    FROM removed r
+    WHERE a.id = r.rpa_id
+    RETURNING a.request_id
+)
+INSERT INTO v27_touched_requests (request_id)
+SELECT DISTINCT request_id FROM fixed;
+
+-- 줄어든 집계행의 요청만 합계를 다시 계산한다(V24 백필과 같은 정의)
+UPDATE request_totals t
+SET total_recommendations = s.total,
+    distinct_places       = s.places,
+    updated_at            = now()
+FROM (
+    SELECT a.request_id, SUM(a.recommended_count) AS total, COUNT(*) AS places
+    FROM request_place_aggregates a
+    JOIN v27_touched_requests x ON x.request_id = a.request_id
+    GROUP BY a.request_id
+) s
+WHERE t.request_id = s.request_id;
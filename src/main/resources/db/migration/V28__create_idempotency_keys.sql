@@ -0,0 +1,14 @@
+-- V28: Idempotency-Key 저장소(app.idempotency.store=jdbc 일 때 사용)
+-- status IS NULL = 처리 중 예약(expires_at = lease 만료), 완료 후에는 응답과 TTL 만료 시각을 기록한다.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idem_key     VARCHAR(400) PRIMARY KEY,
+    owner        VARCHAR(36)  NOT NULL,  -- 예약한 요청(UUID). 완료/해제는 같은 owner일 때만
+    fingerprint  CHAR(64)     NOT NULL,
+    status       INT,
+    location     TEXT,
+    body         TEXT,
+    created_at   TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    expires_at   TIMESTAMPTZ  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires ON idempotency_keys (expires_at);
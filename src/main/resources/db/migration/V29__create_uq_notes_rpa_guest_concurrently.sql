@@ -0,0 +1,8 @@
+-- V29: (rpa_id, guest_id) 유니크 인덱스 — 일괄 제출의 INSERT ... ON CONFLICT (rpa_id, guest_id) DO NOTHING 대상.
+-- CONCURRENTLY는 트랜잭션 안에서 못 돌리므로 V29__...sql.conf 에서 executeInTransaction=false.
+-- 빌드 중 실패하면 INVALID 인덱스가 남아 IF NOT EXISTS가 건너뛰므로, DROP INDEX CONCURRENTLY uq_notes_rpa_guest 후 다시 실행한다.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_notes_rpa_guest
+    ON recommendation_notes (rpa_id, guest_id);
+
+-- (rpa_id, guest_id, created_at_minute)는 위 인덱스가 포함하므로 제거
+DROP INDEX CONCURRENTLY IF EXISTS uq_notes_agg_guest_minute;
@@ -0,0 +1,4 @@
+-- V30: 합치기 모드 복구 작업이 최근 노트(created_at 구간)만 훑도록 BRIN 인덱스.
+-- 노트는 시간순으로 쌓이므로 BRIN이 작고 쓰기 비용이 거의 없다. CONCURRENTLY라 V30__...sql.conf 에서 트랜잭션 밖 실행.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notes_created_at_brin
+    ON recommendation_notes USING BRIN (created_at);
@@ -21,6 +21,11 @@ class Resilience4jAnnotationAuditTest {
         assertFallbackSignature(KakaoSearchAdapterImpl.class, "keywordSearch", "keywordSearchFallback");
     }
 
+    @Test
+    void kakaoReactiveSearchFallback_signatureMatchesOriginal() {
+        assertFallbackSignature(KakaoSearchAdapterImpl.class, "keywordSearchReactive", "keywordSearchReactiveFallback");
+    }
+
     @Test
     void aiKeywordFallback_signatureMatchesOriginal() {
         assertFallbackSignature(AiKeywordServiceImpl.class, "extractTop2", "extractTop2Fallback");
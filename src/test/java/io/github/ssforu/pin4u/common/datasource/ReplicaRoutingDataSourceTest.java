@@ -0,0 +1,153 @@
+package io.github.ssforu.pin4u.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Postgres 컨테이너 2개(primary_db / replica_db)로 라우팅만 검증한다. 실제 스트리밍 복제는 필요 없다
+ * (복제가 아닌 인스턴스는 pg_is_in_recovery()=false → 지연 0).
+ */
+@Tag("integration")
+class ReplicaRoutingDataSourceTest {
+
+    private static final DockerImageName IMAGE = DockerImageName.parse("postgres:16-alpine");
+
+    static PostgreSQLContainer<?> primaryDb = new PostgreSQLContainer<>(IMAGE).withDatabaseName("primary_db");
+    static PostgreSQLContainer<?> replicaDb = new PostgreSQLContainer<>(IMAGE).withDatabaseName("replica_db");
+
+    static HikariDataSource primary;
+    static HikariDataSource replica;
+
+    @BeforeAll
+    static void start() {
+        primaryDb.start();
+        replicaDb.start();
+        primary = pool(primaryDb, "primary");
+        replica = pool(replicaDb, "replica");
+    }
+
+    @AfterAll
+    static void stop() {
+        primary.close();
+        replica.close();
+        primaryDb.stop();
+        replicaDb.stop();
+    }
+
+    @AfterEach
+    void unbind() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readOnlyTransaction_goesToReplica_writeToPrimary() {
+        Fixture f = fixture(true);
+
+        assertThat(f.read()).isEqualTo("replica_db");
+        assertThat(f.write()).isEqualTo("primary_db");
+        assertThat(f.jdbc.queryForObject("SELECT current_database()", String.class))
+                .as("트랜잭션 밖 호출은 primary").isEqualTo("primary_db");
+    }
+
+    @Test
+    void sessionThatJustWrote_readsFromPrimaryWithinWindow() {
+        Fixture f = fixture(true);
+
+        ReadYourWrites.bind("gid-writer");
+        f.write();
+        assertThat(f.read()).isEqualTo("primary_db");
+
+        ReadYourWrites.bind("gid-other");
+        assertThat(f.read()).isEqualTo("replica_db");
+    }
+
+    @Test
+    void rolledBackWrite_doesNotOpenWindow() {
+        Fixture f = fixture(true);
+
+        ReadYourWrites.bind("gid-rollback");
+        f.tx.execute(status -> {
+            f.jdbc.queryForObject("SELECT 1", Integer.class);
+            status.setRollbackOnly();
+            return null;
+        });
+        assertThat(f.read()).isEqualTo("replica_db");
+    }
+
+    @Test
+    void unhealthyLagProbe_fallsBackToPrimary() {
+        Fixture f = fixture(false); // 아직 한 번도 측정하지 않은 프로브 = unhealthy
+
+        assertThat(f.read()).isEqualTo("primary_db");
+    }
+
+    @Test
+    void primaryReads_pinReadOnlyTransactionToPrimary() {
+        Fixture f = fixture(true);
+
+        assertThat(PrimaryReads.call(f::read)).isEqualTo("primary_db");
+        assertThat(f.read()).as("구간을 벗어나면 다시 레플리카").isEqualTo("replica_db");
+        assertThat(f.routed("primary", "pinned")).isEqualTo(1.0);
+    }
+
+    @Test
+    void nonTransactionalCall_hasItsOwnReason() {
+        Fixture f = fixture(true);
+
+        f.jdbc.queryForObject("SELECT 1", Integer.class);
+        assertThat(f.routed("primary", "no_transaction")).isEqualTo(1.0);
+        assertThat(f.routed("primary", "write")).isZero();
+    }
+
+    private static Fixture fixture(boolean probed) {
+        var registry = new SimpleMeterRegistry();
+        var probe = new ReplicaLagProbe(replica, Duration.ofSeconds(1), Duration.ofMinutes(1), registry);
+        if (probed) probe.probe();
+        var routing = new ReplicaRoutingDataSource(primary, replica, probe, new ReadYourWrites(Duration.ofSeconds(30)), registry);
+        routing.afterPropertiesSet();
+        DataSource ds = new LazyConnectionDataSourceProxy(routing);
+        return new Fixture(new JdbcTemplate(ds), new TransactionTemplate(new DataSourceTransactionManager(ds)), registry);
+    }
+
+    private static HikariDataSource pool(PostgreSQLContainer<?> c, String name) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setJdbcUrl(c.getJdbcUrl());
+        ds.setUsername(c.getUsername());
+        ds.setPassword(c.getPassword());
+        ds.setPoolName(name);
+        ds.setMaximumPoolSize(2);
+        return ds;
+    }
+
+    private record Fixture(JdbcTemplate jdbc, TransactionTemplate tx, SimpleMeterRegistry registry) {
+
+        double routed(String target, String reason) {
+            return registry.get("db_routing_total").tag("target", target).tag("reason", reason).counter().count();
+        }
+
+        String read() {
+            TransactionTemplate ro = new TransactionTemplate(tx.getTransactionManager());
+            ro.setReadOnly(true);
+            return ro.execute(s -> jdbc.queryForObject("SELECT current_database()", String.class));
+        }
+
+        String write() {
+            return tx.execute(s -> jdbc.queryForObject("SELECT current_database()", String.class));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.ssforu.pin4u.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.ssforu.pin4u.common.response.ApiResponse;
+import io.github.ssforu.pin4u.common.util.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 메모리 저장소 기준: 재시도 재생, 본문이 다른 재사용 거부(동시 요청 포함), 실패 응답은 저장하지 않음.
+ */
+class IdempotencyServiceTest {
+
+    private IdempotencyService service;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        var store = new CaffeineIdempotencyStore(Caffeine.newBuilder().maximumSize(100).build());
+        service = new IdempotencyService(store, new SingleFlight<>("test", new SimpleMeterRegistry()),
+                new ObjectMapper().findAndRegisterModules(), Duration.ofHours(1), Duration.ofSeconds(30), Duration.ofSeconds(1));
+    }
+
+    @Test
+    void retryWithSameKey_replaysStoredResponse_withoutRunningAction() {
+        ResponseEntity<?> first = service.execute("requests:1", "k-1", Map.of("station", "S0701"), this::created);
+        ResponseEntity<?> retry = service.execute("requests:1", "k-1", Map.of("station", "S0701"), this::created);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getLocation()).isEqualTo(URI.create("/r/abc"));
+        assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(new String((byte[]) retry.getBody(), StandardCharsets.UTF_8)).contains("\"slug\":\"abc\"");
+    }
+
+    @Test
+    void sameKeyWithDifferentBody_isRejected() {
+        service.execute("requests:1", "k-2", Map.of("station", "S0701"), this::created);
+        ResponseEntity<?> other = service.execute("requests:1", "k-2", Map.of("station", "S0702"), this::created);
+
+        assertThat(other.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentSameKeyWithDifferentBody_isRejected_whileFirstInProgress() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+                service.execute("requests:1", "k-5", Map.of("station", "S0701"), () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        ResponseEntity<?> other = service.execute("requests:1", "k-5", Map.of("station", "S0702"), this::created);
+        release.countDown();
+
+        assertThat(other.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(first.get(1, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentSameKeyAndBody_joinsFirst_andIsMarkedReplayed() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+                service.execute("requests:1", "k-6", Map.of("station", "S0701"), () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ResponseEntity<?>> joined = CompletableFuture.supplyAsync(() ->
+                service.execute("requests:1", "k-6", Map.of("station", "S0701"), this::created));
+        Thread.sleep(100); // 합류할 시간
+        release.countDown();
+
+        assertThat(first.get(1, TimeUnit.SECONDS).getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isNull();
+        ResponseEntity<?> second = joined.get(1, TimeUnit.SECONDS);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failedResponse_isNotStored() {
+        service.execute("requests:1", "k-3", Map.of(), () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.badRequest().body(ApiResponse.error("VALIDATION_ERROR", "bad", null));
+        });
+        service.execute("requests:1", "k-3", Map.of(), this::created);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void keysAreScoped() {
+        service.execute("requests:1", "k-4", Map.of(), this::created);
+        service.execute("requests:2", "k-4", Map.of(), this::created);
+        service.execute("requests:2", null, Map.of(), this::created);
+
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ResponseEntity<?> created() {
+        executions.incrementAndGet();
+        return ResponseEntity.created(URI.create("/r/abc"))
+                .body(ApiResponse.success(Map.of("slug", "abc")));
+    }
+}
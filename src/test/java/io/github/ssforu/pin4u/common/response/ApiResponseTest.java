@@ -0,0 +1,34 @@
+package io.github.ssforu.pin4u.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DB 렌더 상세(render=db)는 data를 RawValue로 넘긴다. 봉투가 일반 응답과 같은지 확인.
+ */
+class ApiResponseTest {
+
+    private final ObjectMapper om = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void rawData_serializesLikeParsedData() throws Exception {
+        String data = "{\"slug\":\"abc\",\"items\":[{\"externalId\":\"kakao:1\",\"recommended_count\":3}]}";
+
+        ObjectNode raw = (ObjectNode) om.readTree(om.writeValueAsString(ApiResponse.success(new RawValue(data))));
+        ObjectNode parsed = (ObjectNode) om.readTree(om.writeValueAsString(
+                ApiResponse.success(om.readValue(data, Map.class))));
+
+        assertThat(raw.remove("timestamp").isTextual()).isTrue();
+        parsed.remove("timestamp");
+        assertThat(raw).isEqualTo(parsed);
+        assertThat(raw.get("result").asText()).isEqualTo("success");
+        assertThat(raw.get("error").isNull()).isTrue();
+    }
+}
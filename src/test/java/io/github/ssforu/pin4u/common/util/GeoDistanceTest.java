@@ -0,0 +1,54 @@
+package io.github.ssforu.pin4u.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 등장방형 근사가 역 반경(2km 이내)에서 하버사인과 1m 이내로 일치하는지 확인.
+ */
+class GeoDistanceTest {
+
+    private static final double LAT = 37.4963;   // 숭실대입구
+    private static final double LNG = 126.9535;
+
+    @Test
+    void meters_matchesHaversineWithinTwoKm() {
+        double[][] points = {
+                {37.4990, 126.9560}, {37.5100, 126.9535}, {37.4963, 126.9760}, {37.4820, 126.9400}
+        };
+        for (double[] p : points) {
+            assertThat((double) GeoDistance.meters(LAT, LNG, p[0], p[1]))
+                    .isCloseTo(haversine(LAT, LNG, p[0], p[1]), within(1.0));
+        }
+    }
+
+    @Test
+    void distances_batchMarksMissingCoordinates() {
+        double[] ys = {37.4990, Double.NaN, GeoDistance.parse("37.5100")};
+        double[] xs = {126.9560, 126.9560, GeoDistance.parse(" 126.9535 ")};
+        int[] out = new int[3];
+
+        GeoDistance.distances(LAT, LNG, ys, xs, out);
+
+        assertThat(out[0]).isEqualTo(GeoDistance.meters(LAT, LNG, 37.4990, 126.9560));
+        assertThat(out[1]).isEqualTo(GeoDistance.UNKNOWN);
+        assertThat(out[2]).isEqualTo(GeoDistance.meters(LAT, LNG, 37.5100, 126.9535));
+    }
+
+    @Test
+    void withinRadius_boundary() {
+        int d = GeoDistance.meters(LAT, LNG, 37.5000, 126.9600);
+        assertThat(GeoDistance.withinRadius(LAT, LNG, 37.5000, 126.9600, d + 1)).isTrue();
+        assertThat(GeoDistance.withinRadius(LAT, LNG, 37.5000, 126.9600, d - 1)).isFalse();
+    }
+
+    private static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLng / 2), 2);
+        return GeoDistance.EARTH_RADIUS_M * 2 * Math.asin(Math.sqrt(a));
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.ssforu.pin4u.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IndexedTopKTest {
+
+    private static final Comparator<Integer> DESC = Comparator.reverseOrder();
+
+    @Test
+    void keepsHighestK_andDropsLowerOffers() {
+        IndexedTopK<String, Integer> top = new IndexedTopK<>(3, DESC);
+        top.offer("a", 5);
+        top.offer("b", 1);
+        top.offer("c", 3);
+
+        assertThat(top.offer("d", 0)).isFalse();
+        assertThat(top.offer("e", 4)).isTrue();
+
+        assertThat(top.sorted()).containsExactly(5, 4, 3);
+        assertThat(top.get("b")).isEmpty();
+    }
+
+    @Test
+    void updatingExistingKey_reordersInPlace() {
+        IndexedTopK<String, Integer> top = new IndexedTopK<>(3, DESC);
+        top.offer("a", 5);
+        top.offer("b", 1);
+        top.offer("c", 3);
+
+        top.offer("b", 9);
+
+        assertThat(top.size()).isEqualTo(3);
+        assertThat(top.get("b")).contains(9);
+        assertThat(top.sorted()).containsExactly(9, 5, 3);
+    }
+
+    @Test
+    void randomIncrements_matchFullSort() {
+        Random rnd = new Random(7);
+        Map<Integer, Integer> all = new HashMap<>();
+        IndexedTopK<Integer, int[]> top = new IndexedTopK<>(10,
+                Comparator.<int[]>comparingInt(v -> v[1]).reversed().thenComparingInt(v -> v[0]));
+
+        for (int i = 0; i < 5_000; i++) {
+            int key = rnd.nextInt(200);
+            int count = all.merge(key, 1, Integer::sum);
+            top.offer(key, new int[]{key, count});
+        }
+
+        List<Integer> expected = all.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(10).map(Map.Entry::getKey).toList();
+        assertThat(top.sorted().stream().map(v -> v[0]).toList()).isEqualTo(expected);
+    }
+}
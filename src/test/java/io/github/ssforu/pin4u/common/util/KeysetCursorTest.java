@@ -0,0 +1,36 @@
+package io.github.ssforu.pin4u.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecode_roundTripsAtMicrosecondPrecision() {
+        OffsetDateTime at = OffsetDateTime.of(2025, 9, 1, 12, 30, 15, 123_456_789, ZoneOffset.ofHours(9));
+
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(at, 42L).encode());
+
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.createdAt().toInstant()).isEqualTo(at.toInstant().minusNanos(789));
+    }
+
+    @Test
+    void decode_blankIsFirstPage_andGarbageIsRejected() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void clampSize_appliesDefaultAndCap() {
+        assertThat(KeysetCursor.clampSize(null)).isEqualTo(KeysetCursor.DEFAULT_SIZE);
+        assertThat(KeysetCursor.clampSize(0)).isEqualTo(KeysetCursor.DEFAULT_SIZE);
+        assertThat(KeysetCursor.clampSize(1000)).isEqualTo(KeysetCursor.MAX_SIZE);
+    }
+}
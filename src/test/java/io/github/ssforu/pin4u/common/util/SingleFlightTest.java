@@ -0,0 +1,83 @@
+package io.github.ssforu.pin4u.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 같은 키의 동시 호출이 업스트림 1회로 합쳐지는지 검증.
+ */
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallers_shareOneUpstreamCall() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        SingleFlight<String, String> flight = new SingleFlight<>("test", registry);
+        AtomicInteger upstream = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = pool.submit(() -> flight.execute("k", () -> {
+                upstream.incrementAndGet();
+                entered.countDown();
+                await(release);
+                return "v";
+            }));
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> second = pool.submit(() -> flight.execute("k", () -> {
+                upstream.incrementAndGet();
+                return "other";
+            }));
+            // 두 번째 호출자가 진행 중 future에 합류할 시간을 준다
+            while (registry.get("singleflight.calls").tag("result", "coalesced").counter().count() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("v");
+            assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("v");
+            assertThat(upstream.get()).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void completedKey_isNotCached() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        AtomicInteger upstream = new AtomicInteger();
+
+        flight.execute("k", upstream::incrementAndGet);
+        flight.execute("k", upstream::incrementAndGet);
+
+        assertThat(upstream.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failure_isPropagatedAndKeyReleased() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>("test", new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> flight.execute("k", () -> { throw new IllegalStateException("boom"); }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(flight.execute("k", () -> 1)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.ssforu.pin4u.features.places.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.ssforu.pin4u.common.util.SingleFlight;
+import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+/**
+ * placeSearch 캐시 키 정규화와 stale-while-revalidate 동작 단위 테스트.
+ */
+class PlaceSearchCacheLoaderTest {
+
+    private static final BigDecimal LAT = new BigDecimal("37.4979502");
+    private static final BigDecimal LNG = new BigDecimal("127.0276368");
+
+    @Test
+    void key_normalizesKeyword() {
+        var k1 = PlaceSearchKey.of("S0220", "  강남  카페 ", 800, 10, LAT, LNG);
+        var k2 = PlaceSearchKey.of("S0220", "강남 카페", 800, 10, LAT, LNG);
+        assertThat(k1).isEqualTo(k2);
+        assertThat(k1.hashCode()).isEqualTo(k2.hashCode());
+    }
+
+    @Test
+    void key_differsBySize() {
+        var k1 = PlaceSearchKey.of("S0220", "카페", 800, 10, LAT, LNG);
+        var k2 = PlaceSearchKey.of("S0220", "카페", 800, 20, LAT, LNG);
+        assertThat(k1).isNotEqualTo(k2);
+    }
+
+    @Test
+    void load_emptyResult_isNotCached() {
+        var registry = new SimpleMeterRegistry();
+        var loader = new PlaceSearchCacheLoader(
+                (lat, lng, q, r, s) -> List.of(), new SingleFlight<>("test", registry),
+                CircuitBreakerRegistry.ofDefaults(), registry);
+        assertThat(loader.load(PlaceSearchKey.of("S0220", "카페", 800, 10, LAT, LNG))).isNull();
+    }
+
+    @Test
+    void reload_emptyResult_keepsStaleValue() {
+        AtomicReference<List<KakaoPayload.Document>> upstream = new AtomicReference<>(List.of(doc("1")));
+        var registry = new SimpleMeterRegistry();
+        var loader = new PlaceSearchCacheLoader(
+                (lat, lng, q, r, s) -> upstream.get(), new SingleFlight<>("test", registry),
+                CircuitBreakerRegistry.ofDefaults(), registry);
+        var key = PlaceSearchKey.of("S0220", "카페", 800, 10, LAT, LNG);
+
+        Object first = loader.load(key);
+        upstream.set(List.of());
+
+        assertThat(loader.reload(key, first)).isSameAs(first);
+    }
+
+    @Test
+    void load_whileCircuitOpen_isNotCached() {
+        var registry = new SimpleMeterRegistry();
+        var breakers = CircuitBreakerRegistry.ofDefaults();
+        breakers.circuitBreaker("kakaoSearch").transitionToOpenState();
+        var loader = new PlaceSearchCacheLoader(
+                (lat, lng, q, r, s) -> List.of(doc("1")), new SingleFlight<>("test", registry),
+                breakers, registry);
+        assertThat(loader.load(PlaceSearchKey.of("S0220", "카페", 800, 10, LAT, LNG))).isNull();
+    }
+
+    private static KakaoPayload.Document doc(String id) {
+        return new KakaoPayload.Document(id, "place" + id, null, null, null, null, null, null,
+                "127.0", "37.0", null, "10");
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.ssforu.pin4u.features.places.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.ssforu.pin4u.features.places.domain.KakaoPayload;
+import io.github.ssforu.pin4u.features.places.domain.Place;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * 격자 셀 조회, 델타 우선, 델타 → 스냅샷 합치기, 로드 중 upsert 보존 단위 테스트.
+ */
+class PlaceSpatialCatalogTest {
+
+    // 강남역
+    private static final BigDecimal LAT = new BigDecimal("37.4979502");
+    private static final BigDecimal LNG = new BigDecimal("127.0276368");
+
+    private JdbcTemplate jdbc;
+    private PlaceRepository placeRepository;
+    private PlaceSpatialCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(JdbcTemplate.class);
+        placeRepository = mock(PlaceRepository.class);
+        // 요청된 external_id마다 최소 필드만 채운 Place를 돌려준다
+        when(placeRepository.findByExternalIdIn(any())).thenAnswer(inv -> {
+            Collection<String> ids = inv.getArgument(0);
+            return ids.stream()
+                    .map(id -> Place.builder().externalId(id).placeName("p").x("0").y("0").build())
+                    .toList();
+        });
+        catalog = new PlaceSpatialCatalog(jdbc, placeRepository, true);
+    }
+
+    @Test
+    void search_findsNeighbouringCells_andSortsByDistance() {
+        // 0.01° 셀 경계를 사이에 둔 점들: 가까운 셀과 바로 옆 셀 모두 조회돼야 한다
+        catalog.putAll(List.of(
+                doc("near", "카페 A", LAT.doubleValue() + 0.0005, LNG.doubleValue()),
+                doc("cross", "카페 B", LAT.doubleValue() + 0.0030, LNG.doubleValue() + 0.0030),
+                doc("far", "카페 C", LAT.doubleValue() + 0.05, LNG.doubleValue())));
+
+        assertThat(ids(catalog.search(LAT, LNG, "카페", 800, 10))).containsExactly("near", "cross");
+    }
+
+    @Test
+    void search_matchesAllTokens() {
+        catalog.putAll(List.of(
+                doc("cafe", "스타 카페", LAT.doubleValue(), LNG.doubleValue()),
+                doc("bar", "스타 주점", LAT.doubleValue(), LNG.doubleValue())));
+
+        assertThat(ids(catalog.search(LAT, LNG, "스타 카페", 800, 10))).containsExactly("cafe");
+    }
+
+    @Test
+    void merge_keepsEntriesAndLatestCoordinatesWin() {
+        List<KakaoPayload.Document> docs = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            docs.add(doc("n" + i, "식당", LAT.doubleValue() + 0.5 + i * 1e-5, LNG.doubleValue()));
+        }
+        docs.add(doc("moved", "카페", LAT.doubleValue() + 0.003, LNG.doubleValue()));
+        catalog.putAll(docs); // 임계치(1024) 초과 → 스냅샷으로 합쳐진다
+        assertThat(catalog.size()).isEqualTo(1101);
+
+        // 합쳐진 뒤 같은 장소가 다른 좌표로 다시 upsert되면 델타가 스냅샷보다 우선
+        catalog.putAll(List.of(doc("moved", "카페", LAT.doubleValue(), LNG.doubleValue())));
+
+        var hits = catalog.search(LAT, LNG, "카페", 800, 10);
+        assertThat(ids(hits)).containsExactly("moved");
+        assertThat(hits.get(0).distance()).isEqualTo("0");
+        assertThat(catalog.search(LAT, LNG, "식당", 800, 10)).isEmpty();
+    }
+
+    @Test
+    void load_keepsUpsertsCommittedDuringSelect() throws Exception {
+        catalog.putAll(List.of(doc("before", "카페", LAT.doubleValue(), LNG.doubleValue())));
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(anyString())).thenAnswer(inv -> switch ((String) inv.getArgument(0)) {
+            case "external_id" -> "kakao:before";
+            case "place_name" -> "카페";
+            case "x" -> LNG.toPlainString();
+            case "y" -> LAT.toPlainString();
+            default -> null;
+        });
+        doAnswer(inv -> {
+            // SELECT 도중 다른 요청의 upsert가 커밋됨(결과 집합에는 없다)
+            catalog.putAll(List.of(doc("during", "카페", LAT.doubleValue(), LNG.doubleValue() + 0.001)));
+            inv.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbc).query(anyString(), any(RowCallbackHandler.class));
+
+        catalog.load();
+
+        assertThat(catalog.size()).isEqualTo(2);
+        assertThat(ids(catalog.search(LAT, LNG, "카페", 800, 10))).containsExactly("before", "during");
+    }
+
+    private static KakaoPayload.Document doc(String id, String name, double lat, double lng) {
+        return new KakaoPayload.Document(id, name, null, null, null, null, null, null,
+                String.valueOf(lng), String.valueOf(lat), null, null);
+    }
+
+    private static List<String> ids(List<KakaoPayload.Document> docs) {
+        return docs.stream().map(KakaoPayload.Document::id).toList();
+    }
+}
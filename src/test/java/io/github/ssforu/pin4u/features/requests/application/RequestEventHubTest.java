@@ -0,0 +1,136 @@
+package io.github.ssforu.pin4u.features.requests.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.ssforu.pin4u.features.requests.domain.Request;
+import io.github.ssforu.pin4u.features.requests.event.PlaceRecommendedEvent;
+import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 구독자 버퍼(drop-oldest), 드레인 재예약, 거절된 드레인 재시도, 타임아웃 시 구독 해제.
+ * 드레인은 직접 돌리는 큐 executor로, 전송은 기록용 emitter로 관찰한다.
+ */
+class RequestEventHubTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RecordingEmitter emitter;
+    private boolean rejectNext;
+    private RequestEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        RequestRepository requestRepository = mock(RequestRepository.class);
+        when(requestRepository.findBySlug("s")).thenReturn(Optional.of(mock(Request.class)));
+        Executor executor = task -> {
+            if (rejectNext) {
+                rejectNext = false;
+                throw new RejectedExecutionException("full");
+            }
+            tasks.add(task);
+        };
+        hub = new RequestEventHub(requestRepository, executor, registry, 2, 10, Duration.ofMinutes(30)) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                emitter = new RecordingEmitter();
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    void slowSubscriber_keepsOnlyNewestDeltas() {
+        hub.subscribe("s"); // 연결 직후 ping이 버퍼에 들어가고 드레인 1개 예약
+        hub.onPlaceRecommended(recommended("p1"));
+        hub.onPlaceRecommended(recommended("p2"));
+        hub.onPlaceRecommended(recommended("p3"));
+
+        assertThat(tasks).hasSize(1);
+        runTasks();
+
+        assertThat(emitter.sent).hasSize(2);
+        assertThat(emitter.sent.get(0)).contains("event:place_added");
+        assertThat(emitter.sent).noneMatch(s -> s.contains("ping"));
+        assertThat(registry.get("sse.deltas.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void drainedSubscriber_schedulesAgainOnNextDelta() {
+        hub.subscribe("s");
+        runTasks();
+        assertThat(emitter.sent).singleElement().asString().contains("ping");
+
+        hub.onPlaceRecommended(recommended("p1"));
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(emitter.sent).hasSize(2);
+    }
+
+    @Test
+    void rejectedDrain_isRetriedOnNextOffer() {
+        rejectNext = true;
+        hub.subscribe("s");
+        assertThat(tasks).isEmpty();
+
+        hub.heartbeat(); // 버퍼에 ping이 남아 있어 하트비트는 생략되고 드레인만 다시 올린다
+        assertThat(tasks).hasSize(1);
+        runTasks();
+
+        assertThat(emitter.sent).hasSize(1);
+        assertThat(registry.get("sse.drains.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void timeout_unsubscribes() {
+        hub.subscribe("s");
+        runTasks();
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+
+        emitter.timeoutCallback.run();
+
+        assertThat(hub.subscriberCount()).isZero();
+        hub.onPlaceRecommended(recommended("p1"));
+        assertThat(tasks).isEmpty();
+    }
+
+    private void runTasks() {
+        List<Runnable> batch = new ArrayList<>(tasks);
+        tasks.clear();
+        batch.forEach(Runnable::run);
+    }
+
+    private static PlaceRecommendedEvent recommended(String externalId) {
+        return new PlaceRecommendedEvent("s",
+                List.of(new PlaceRecommendedEvent.Place(externalId, externalId, null, 1, true)));
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<String> sent = new ArrayList<>();
+        Runnable timeoutCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(d -> text.append(d.getData()));
+            sent.add(text.toString());
+        }
+
+        @Override
+        public synchronized void onTimeout(Runnable callback) {
+            super.onTimeout(callback);
+            this.timeoutCallback = callback;
+        }
+    }
+}
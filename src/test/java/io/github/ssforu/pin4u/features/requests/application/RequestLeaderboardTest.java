@@ -0,0 +1,101 @@
+package io.github.ssforu.pin4u.features.requests.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.ssforu.pin4u.features.requests.dto.RequestDetailDtos.RankingItem;
+import io.github.ssforu.pin4u.features.requests.event.PlaceRecommendedEvent;
+import io.github.ssforu.pin4u.features.requests.infra.RequestDetailQueryRepository;
+import io.github.ssforu.pin4u.features.requests.infra.RequestRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 시드, 증분 반영(상위 K 진입/탈락), 시드 중 커밋된 이벤트 보존.
+ */
+class RequestLeaderboardTest {
+
+    private RequestDetailQueryRepository queryRepository;
+    private RequestRepository requestRepository;
+    private RequestLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        queryRepository = mock(RequestDetailQueryRepository.class);
+        requestRepository = mock(RequestRepository.class);
+        leaderboard = new RequestLeaderboard(queryRepository, requestRepository,
+                2, 100, Duration.ofMinutes(10), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void seedsOnce_thenAppliesIncrements() {
+        var rows = List.of(row("a", 3), row("b", 1)); // 스텁 중첩을 피하려 먼저 만든다
+        when(queryRepository.findRankingBySlug("s", 2)).thenReturn(rows);
+
+        assertThat(ids(leaderboard.ranking("s", null).items())).containsExactly("a", "b");
+
+        leaderboard.onPlaceRecommended(event("s", "b", 5));
+        leaderboard.onPlaceRecommended(event("s", "c", 2)); // 최하위(b=5, a=3)보다 작아 못 들어온다
+        assertThat(ids(leaderboard.ranking("s", null).items())).containsExactly("b", "a");
+
+        leaderboard.onPlaceRecommended(event("s", "c", 4));
+        leaderboard.onPlaceRecommended(event("s", "b", 4)); // 늦게 온 옛 값은 무시
+        List<RankingItem> items = leaderboard.ranking("s", null).items();
+        assertThat(ids(items)).containsExactly("b", "c");
+        assertThat(items.get(0).recommendedCount()).isEqualTo(5);
+
+        verify(queryRepository, times(1)).findRankingBySlug(anyString(), anyInt());
+    }
+
+    @Test
+    void eventCommittedDuringSeed_isNotLost() {
+        var rows = List.of(row("a", 6), row("b", 1));
+        when(queryRepository.findRankingBySlug("s", 2)).thenAnswer(inv -> {
+            // 시드 조회 스냅샷 이후 커밋된 추천
+            leaderboard.onPlaceRecommended(event("s", "a", 7));
+            return rows;
+        });
+
+        List<RankingItem> items = leaderboard.ranking("s", null).items();
+
+        assertThat(ids(items)).containsExactly("a", "b");
+        assertThat(items.get(0).recommendedCount()).isEqualTo(7);
+    }
+
+    @Test
+    void eventForUnseededSlug_isIgnored_andUnknownSlugIs404() {
+        leaderboard.onPlaceRecommended(event("none", "a", 1));
+        verify(queryRepository, never()).findRankingBySlug(anyString(), anyInt());
+
+        when(queryRepository.findRankingBySlug("none", 2)).thenReturn(List.of());
+        when(requestRepository.findBySlug("none")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> leaderboard.ranking("none", null)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    private static RequestDetailQueryRepository.RankRow row(String id, int count) {
+        var r = mock(RequestDetailQueryRepository.RankRow.class);
+        when(r.getExternal_id()).thenReturn(id);
+        when(r.getPlace_name()).thenReturn(id);
+        when(r.getRecommended_count()).thenReturn(count);
+        return r;
+    }
+
+    private static PlaceRecommendedEvent event(String slug, String id, int count) {
+        return new PlaceRecommendedEvent(slug, List.of(new PlaceRecommendedEvent.Place(id, id, null, count, false)));
+    }
+
+    private static List<String> ids(List<RankingItem> items) {
+        return items.stream().map(RankingItem::externalId).toList();
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.ssforu.pin4u.features.stations.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.ssforu.pin4u.features.stations.domain.Station;
+import io.github.ssforu.pin4u.features.stations.infra.StationRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StationRegistryTest {
+
+    private static Station station(String code, String name, String line) {
+        Station s = new Station();
+        s.setCode(code);
+        s.setName(name);
+        s.setLine(line);
+        s.setLat(new BigDecimal("37.4963000"));
+        s.setLng(new BigDecimal("126.9535000"));
+        return s;
+    }
+
+    private static StationRegistry registry(StationRepository repo) {
+        when(repo.findAll()).thenReturn(List.of(
+                station("S0701", "숭실대입구", "7호선"),
+                station("S0222", "강남", "2호선")));
+        return new StationRegistry(repo);
+    }
+
+    @Test
+    void resolveCode_acceptsCodeAliasAndJsonForms() {
+        StationRegistry registry = registry(mock(StationRepository.class));
+
+        assertThat(registry.resolveCode(" S0222 ")).contains("S0222");
+        assertThat(registry.resolveCode("7-733")).contains("S0701");
+        assertThat(registry.resolveCode("{\"code\":\"S0701\"}")).contains("S0701");
+        assertThat(registry.resolveCode("{\"name\":\"강남\",\"line\":\"2\"}")).contains("S0222");
+        assertThat(registry.resolveCode("S9999")).isEmpty();
+    }
+
+    @Test
+    void find_loadsOnceAndPrecomputesCoordinates() {
+        StationRepository repo = mock(StationRepository.class);
+        StationRegistry registry = registry(repo);
+
+        var entry = registry.find("S0701").orElseThrow();
+        registry.find("S0222");
+        registry.contains("S9999");
+
+        assertThat(entry.latDeg()).isEqualTo(37.4963);
+        assertThat(entry.origin().metersTo(37.4963, 126.9535)).isZero();
+        verify(repo, times(1)).findAll();
+    }
+}